@@ -0,0 +1,102 @@
+package com.ktb3.community.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.ktb3.community.common.util.FieldSelection;
+import com.ktb3.community.post.dto.PostCommentDto;
+import com.ktb3.community.post.dto.PostDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 직렬화 형식 비교 (JSON / CBOR / Smile)
+ * - 게시물 목록 한 페이지, 댓글 한 페이지(각 20개)를 직렬화하는 시간 측정, 크기는 시작 시 출력
+ * - ObjectMapper는 애플리케이션과 같은 방식(Jackson2ObjectMapperBuilder + 필드 선택 필터)으로 생성
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseEncodingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    private ObjectMapper mapper;
+    private PostDto.PostListPageResponse feedPage;
+    private PostCommentDto.CommentSliceResponse commentPage;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // 1. 형식별 ObjectMapper
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .filters(FieldSelection.defaultFilterProvider());
+        mapper = switch (format) {
+            case "cbor" -> builder.factory(new CBORFactory()).build();
+            case "smile" -> builder.factory(new SmileFactory()).build();
+            default -> builder.build();
+        };
+
+        // 2. 실제 응답과 비슷한 데이터
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<PostDto.PostListResponse> posts = new ArrayList<>();
+        List<PostCommentDto.CommentResponse> comments = new ArrayList<>();
+        for (long i = 1; i <= PAGE_SIZE; i++) {
+            posts.add(PostDto.PostListResponse.builder()
+                    .postId(1000 + i)
+                    .title("스프링 부트에서 JPA N+1 문제 해결하기 " + i)
+                    .hit(1234 * i)
+                    .likeCount(12 * i)
+                    .commentCount(3 * i)
+                    .authorId(10 + i)
+                    .authorNickname("작성자" + i)
+                    .authorProfileImageUrl("https://bucket.s3.ap-northeast-2.amazonaws.com/profile/" + i + ".png")
+                    .createdAt(now.minusHours(i))
+                    .build());
+            comments.add(PostCommentDto.CommentResponse.builder()
+                    .commentId(5000 + i)
+                    .postId(1001L)
+                    .comment("좋은 글 감사합니다. 말씀해주신 방법으로 해결했어요! " + i)
+                    .authorId(20 + i)
+                    .authorNickname("댓글러" + i)
+                    .authorProfileImageUrl("https://bucket.s3.ap-northeast-2.amazonaws.com/profile/" + (20 + i) + ".png")
+                    .createdAt(now.minusMinutes(i))
+                    .isAuthor(i == 1)
+                    .build());
+        }
+        feedPage = PostDto.PostListPageResponse.builder()
+                .posts(posts)
+                .nextCursor("TEFURVNUfDEwMDE")
+                .hasNext(true)
+                .build();
+        commentPage = PostCommentDto.CommentSliceResponse.builder()
+                .comments(comments)
+                .nextCursor("MjAyNS0wMS0wMVQxMTo0MHw1MDIw")
+                .hasNext(true)
+                .build();
+
+        // 3. 크기 출력
+        System.out.printf("%n[%s] feed=%d bytes, comments=%d bytes%n",
+                format,
+                mapper.writeValueAsBytes(feedPage).length,
+                mapper.writeValueAsBytes(commentPage).length);
+    }
+
+    @Benchmark
+    public byte[] serializeFeedPage() throws Exception {
+        return mapper.writeValueAsBytes(feedPage);
+    }
+
+    @Benchmark
+    public byte[] serializeCommentPage() throws Exception {
+        return mapper.writeValueAsBytes(commentPage);
+    }
+}
@@ -0,0 +1,146 @@
+package com.ktb3.community.benchmark;
+
+import com.ktb3.community.common.converter.CompressedTextConverter;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시물 본문 압축 코덱 비교 (Deflate 레벨별 / LZ4)
+ * - 한국어 문장을 섞어 만든 본문으로 압축/해제 시간 측정, 압축률은 시작 시 출력
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TextCompressionBenchmark {
+
+    private static final String[] SENTENCES = {
+            "오늘 판교역 근처에서 점심을 먹었는데 생각보다 사람이 많아서 한참 기다렸어요.",
+            "스프링 부트에서 JPA N+1 문제를 해결하려고 fetch join을 적용해 봤습니다.",
+            "주말에 한강 공원에 다녀왔는데 날씨가 좋아서 산책하기 딱 좋았습니다!",
+            "이번 프로젝트 회고: 일정은 빠듯했지만 팀원들과 코드 리뷰를 꾸준히 한 덕분에 품질이 좋아졌다.",
+            "혹시 MySQL 인덱스 설계할 때 복합 인덱스 컬럼 순서 어떻게 정하시나요?",
+            "카페에서 작업하다 보면 집중이 잘 되는 날도 있고, 전혀 안 되는 날도 있네요 ㅎㅎ",
+            "어제 올린 글에 댓글 달아주신 분들 감사합니다. 말씀해주신 방법으로 해결했어요.",
+            "캐시를 도입한 뒤 응답 시간이 p99 기준으로 절반 이하로 줄었습니다.",
+    };
+
+    @Param({"2048", "32768", "262144"})
+    private int sizeBytes;
+
+    private byte[] raw;
+    private byte[] deflateFast;
+    private byte[] deflateDefault;
+    private byte[] lz4;
+    private byte[] converterStored;
+
+    private LZ4Compressor lz4Compressor;
+    private LZ4FastDecompressor lz4Decompressor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // 1. 실제 게시물처럼 문장을 무작위로 이어 붙인 본문 (고정 시드)
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder();
+        int length = 0;
+        while (length < sizeBytes) {
+            String sentence = SENTENCES[random.nextInt(SENTENCES.length)] + (random.nextInt(5) == 0 ? "\n\n" : " ");
+            text.append(sentence);
+            length += sentence.getBytes(StandardCharsets.UTF_8).length;
+        }
+        raw = text.toString().getBytes(StandardCharsets.UTF_8);
+
+        LZ4Factory factory = LZ4Factory.fastestJavaInstance();
+        lz4Compressor = factory.fastCompressor();
+        lz4Decompressor = factory.fastDecompressor();
+
+        deflateFast = deflate(raw, Deflater.BEST_SPEED);
+        deflateDefault = deflate(raw, Deflater.DEFAULT_COMPRESSION);
+        lz4 = lz4Compressor.compress(raw);
+        converterStored = CompressedTextConverter.encode(text.toString());
+
+        // 2. 압축률 출력
+        System.out.printf("%n[%d bytes] deflate(1)=%.1f%% deflate(6)=%.1f%% lz4=%.1f%%%n",
+                raw.length,
+                100.0 * deflateFast.length / raw.length,
+                100.0 * deflateDefault.length / raw.length,
+                100.0 * lz4.length / raw.length);
+    }
+
+    @Benchmark
+    public byte[] deflateFastCompress() {
+        return deflate(raw, Deflater.BEST_SPEED);
+    }
+
+    @Benchmark
+    public byte[] deflateDefaultCompress() {
+        return deflate(raw, Deflater.DEFAULT_COMPRESSION);
+    }
+
+    @Benchmark
+    public byte[] lz4Compress() {
+        return lz4Compressor.compress(raw);
+    }
+
+    @Benchmark
+    public byte[] deflateFastDecompress() throws DataFormatException {
+        return inflate(deflateFast, raw.length);
+    }
+
+    @Benchmark
+    public byte[] deflateDefaultDecompress() throws DataFormatException {
+        return inflate(deflateDefault, raw.length);
+    }
+
+    @Benchmark
+    public byte[] lz4Decompress() {
+        return lz4Decompressor.decompress(lz4, raw.length);
+    }
+
+    // 실제 저장 경로 (CompressedTextConverter - UTF-8 변환 포함)
+    @Benchmark
+    public String converterDecode() {
+        return CompressedTextConverter.decode(converterStored);
+    }
+
+    private static byte[] deflate(byte[] input, int level) {
+        Deflater deflater = new Deflater(level);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input, int originalLength) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            byte[] output = new byte[originalLength];
+            int length = 0;
+            while (!inflater.finished() && length < originalLength) {
+                length += inflater.inflate(output, length, originalLength - length);
+            }
+            return output;
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.ktb3.community.common.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 텍스트 압축 저장 (String ↔ LONGBLOB)
+ * - THRESHOLD_BYTES 이상이면 Deflate로 압축해서 [0xFF][0x01][압축 데이터] 형태로 저장
+ * - 그보다 짧거나 압축해도 줄지 않으면 UTF-8 그대로 저장
+ * - 0xFF는 UTF-8에 나올 수 없는 바이트라서, 마커가 없으면 압축 이전에 저장된 평문(UTF-8)으로 읽음
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    public static final int THRESHOLD_BYTES = 1024;
+
+    private static final byte MARKER = (byte) 0xFF;
+    private static final byte CODEC_DEFLATE = 0x01;
+    private static final int HEADER_SIZE = 2;
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        if (text == null) {
+            return null;
+        }
+        return encode(text);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        return decode(stored);
+    }
+
+    public static byte[] encode(String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < THRESHOLD_BYTES) {
+            return raw;
+        }
+
+        byte[] compressed = deflate(raw);
+        if (compressed.length + HEADER_SIZE >= raw.length) {
+            return raw;  // 압축 효과가 없으면 평문
+        }
+
+        byte[] stored = new byte[compressed.length + HEADER_SIZE];
+        stored[0] = MARKER;
+        stored[1] = CODEC_DEFLATE;
+        System.arraycopy(compressed, 0, stored, HEADER_SIZE, compressed.length);
+        return stored;
+    }
+
+    public static String decode(byte[] stored) {
+        if (!isCompressed(stored)) {
+            return new String(stored, StandardCharsets.UTF_8);
+        }
+        if (stored[1] != CODEC_DEFLATE) {
+            throw new IllegalStateException("지원하지 않는 압축 형식입니다: " + stored[1]);
+        }
+        return new String(inflate(stored, HEADER_SIZE), StandardCharsets.UTF_8);
+    }
+
+    public static boolean isCompressed(byte[] stored) {
+        return stored.length >= HEADER_SIZE && stored[0] == MARKER;
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 2);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] stored, int offset) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(stored, offset, stored.length - offset);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(stored.length * 3);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(buffer);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("압축 데이터가 손상되었습니다.");
+                }
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("압축 데이터가 손상되었습니다.", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.ktb3.community.common.util;
+
+import com.ktb3.community.common.exception.BusinessException;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 복합 커서 인코딩/디코딩
+ * - (정렬 키, id) 같은 여러 값을 하나의 불투명한 문자열로 만들어 nextCursor로 내려줌
+ * - 클라이언트는 받은 값을 그대로 다음 요청에 넘기기만 하면 됨
+ */
+public class CursorUtil {
+
+    private CursorUtil() {}
+
+    private static final String DELIMITER = "|";
+
+    public static String encode(Object... values) {
+        String raw = Arrays.stream(values)
+                .map(String::valueOf)
+                .collect(Collectors.joining(DELIMITER));
+
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int size) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = raw.split(Pattern.quote(DELIMITER), -1);
+
+            if (values.length != size) {
+                throw invalidCursor();
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw invalidCursor();
+        }
+    }
+
+    public static BusinessException invalidCursor() {
+        return new BusinessException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+    }
+}
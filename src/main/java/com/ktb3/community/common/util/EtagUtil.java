@@ -0,0 +1,85 @@
+package com.ktb3.community.common.util;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class EtagUtil {
+
+    private EtagUtil() {}
+
+    // 응답 형식 (JacksonConfig) - 컨버터 등록 순서와 같게 (Accept가 */* 이면 JSON)
+    private static final List<MediaType> REPRESENTATIONS = List.of(
+            MediaType.APPLICATION_JSON,
+            MediaType.APPLICATION_CBOR,
+            MediaType.parseMediaType("application/x-jackson-smile"));
+
+    /**
+     * 버전 값들로 strong ETag 생성 ("md5")
+     * → 값이 하나라도 바뀌면 ETag도 바뀜, 회원 ID 등이 헤더에 그대로 노출되지 않도록 해시
+     */
+    public static String strongEtag(Object... parts) {
+        String raw = Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("|"));
+
+        return "\"" + DigestUtils.md5DigestAsHex(raw.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * 조건부 조회 (응답 형식별)
+     * - 같은 URL이라도 Accept에 따라 본문(JSON/CBOR/Smile)이 다름
+     *   → Vary: Accept 추가 + 협상된 형식을 ETag에 포함 (다른 형식의 캐시 사본과 ETag가 섞이지 않도록)
+     * @param etag - 버전 ETag (null이면 비교하지 않음)
+     * @return 바뀐 게 없으면 true (304 응답 준비 완료)
+     */
+    public static boolean checkNotModified(ServletWebRequest webRequest, String etag) {
+        HttpServletResponse response = webRequest.getResponse();
+        if (response != null) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+        if (etag == null) {
+            return false;
+        }
+
+        String mediaType = negotiatedMediaType(webRequest.getHeader(HttpHeaders.ACCEPT));
+        return webRequest.checkNotModified(strongEtag(etag, mediaType));
+    }
+
+    /**
+     * Accept 헤더로 선택될 응답 형식 - q값 높은 순, 같으면 헤더 순서 (해석할 수 없으면 헤더 그대로)
+     */
+    static String negotiatedMediaType(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON_VALUE;
+        }
+
+        try {
+            List<MediaType> accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+            accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+            for (MediaType acceptedType : accepted) {
+                if (acceptedType.getQualityValue() == 0) {
+                    continue;
+                }
+                for (MediaType representation : REPRESENTATIONS) {
+                    if (acceptedType.includes(representation)) {
+                        return representation.toString();
+                    }
+                }
+            }
+        } catch (InvalidMediaTypeException e) {
+            // 잘못된 Accept - 형식 대신 헤더 값으로 구분
+        }
+        return accept;
+    }
+}
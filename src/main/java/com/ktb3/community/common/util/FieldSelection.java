@@ -0,0 +1,74 @@
+package com.ktb3.community.common.util;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 응답 필드 선택 (fields=postId,title,likeCount)
+ * - @JsonFilter(FieldSelection.FILTER_ID)가 붙은 DTO는 선택한 속성만 직렬화 (감싸는 페이지 DTO는 그대로)
+ * - 서비스에서는 includes()로 필요 없는 조회(이미지, 프로필 등)를 건너뜀
+ * - fields가 없으면 전체 (기존 응답과 동일)
+ * 속성 이름은 JSON 기준 (isAuthor/isLiked 필드는 "author"/"liked")
+ */
+public class FieldSelection {
+
+    public static final String FILTER_ID = "fields";
+
+    private static final FieldSelection ALL = new FieldSelection(null);
+
+    private final Set<String> fields;  // null이면 전체
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldSelection all() {
+        return ALL;
+    }
+
+    public static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        return new FieldSelection(Collections.unmodifiableSet(Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .collect(Collectors.toSet())));
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    /**
+     * 응답 본문에 필드 선택 적용 (전체면 필터 없이 그대로 직렬화)
+     */
+    public MappingJacksonValue apply(Object body) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        if (!isAll()) {
+            value.setFilters(new SimpleFilterProvider()
+                    .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields))
+                    .setFailOnUnknownId(false));
+        }
+        return value;
+    }
+
+    /**
+     * 기본 필터 - 필드 선택이 없는 응답은 모든 속성 직렬화 (JacksonConfig에서 등록)
+     */
+    public static SimpleFilterProvider defaultFilterProvider() {
+        return new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.serializeAll())
+                .setFailOnUnknownId(false);
+    }
+}
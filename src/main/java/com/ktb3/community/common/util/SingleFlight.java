@@ -0,0 +1,89 @@
+package com.ktb3.community.common.util;
+
+import com.ktb3.community.common.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 같은 key에 대한 동시 로딩을 하나로 합침 (single-flight)
+ * - 처음 들어온 요청(leader)만 실제로 로딩하고, 그동안 들어온 요청(follower)은 그 결과를 같이 받음
+ * - 로딩이 끝나면 바로 제거 - 결과를 보관하지 않음 (캐시는 호출하는 쪽에서)
+ * - leader/follower 횟수는 singleflight.calls (name, role 태그) → follower 비율 = 합쳐진 요청 비율
+ * - deadline을 넘기면 follower는 기다리지 않고 503 (leader 로딩이 멈춰도 요청이 무한정 쌓이지 않도록)
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCounter;
+    private final Counter followerCounter;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaderCounter = Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.followerCounter = Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("role", "follower")
+                .register(meterRegistry);
+    }
+
+    public V execute(K key, Supplier<V> loader) {
+        return execute(key, loader, Long.MAX_VALUE);
+    }
+
+    /**
+     * @param deadline - follower 대기 종료 시각 (System.nanoTime 기준, Long.MAX_VALUE면 제한 없음)
+     */
+    public V execute(K key, Supplier<V> loader, long deadline) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+
+        // 1. 이미 로딩 중이면 결과 기다림
+        if (existing != null) {
+            followerCounter.increment();
+            return await(existing, deadline);
+        }
+
+        // 2. 직접 로딩 후 기다리던 요청들에게 결과 전달
+        leaderCounter.increment();
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V await(CompletableFuture<V> future, long deadline) {
+        try {
+            if (deadline == Long.MAX_VALUE) {
+                return future.get();
+            }
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            // leader에서 난 예외를 그대로 전달 (존재하지 않는 게시물 등)
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new BusinessException(HttpStatus.SERVICE_UNAVAILABLE, "조회가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("로딩 대기 중 중단되었습니다.", e);
+        }
+    }
+}
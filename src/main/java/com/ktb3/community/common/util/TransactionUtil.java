@@ -0,0 +1,27 @@
+package com.ktb3.community.common.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+    private TransactionUtil() {}
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 실행 (트랜잭션 밖이면 바로 실행)
+     * → 캐시 무효화 등을 커밋 전에 해버리면 다른 요청이 커밋 전 데이터로 다시 채울 수 있음
+     */
+    public static void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
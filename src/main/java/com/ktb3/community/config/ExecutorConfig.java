@@ -0,0 +1,17 @@
+package com.ktb3.community.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ExecutorConfig {
+
+    // 한 요청 안의 독립적인 조회를 병렬로 실행하기 위한 가상 스레드 (작업마다 새 가상 스레드)
+    @Bean(destroyMethod = "close")
+    public ExecutorService virtualThreadExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("virtual-fetch-", 0).factory());
+    }
+}
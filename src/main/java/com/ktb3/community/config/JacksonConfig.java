@@ -0,0 +1,39 @@
+package com.ktb3.community.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.ktb3.community.common.util.FieldSelection;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ * 응답 직렬화 설정
+ * - JSON 외에 바이너리 형식도 Accept 헤더로 선택 가능 (요청 본문도 같은 형식으로 보낼 수 있음)
+ *   application/cbor, application/x-jackson-smile
+ * - 바이너리 컨버터도 스프링 부트의 ObjectMapper 설정(날짜 형식, 필드 선택 필터 등)을 그대로 사용
+ *   → 기본으로 등록되는 컨버터를 같은 타입의 빈으로 교체
+ * - 조건부 조회 응답은 형식별로 ETag가 다르고 Vary: Accept 포함 (EtagUtil.checkNotModified)
+ */
+@Configuration
+public class JacksonConfig {
+
+    // @JsonFilter가 붙은 응답 DTO - fields 선택이 없으면 전체 직렬화
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fieldFilterCustomizer() {
+        return builder -> builder.filters(FieldSelection.defaultFilterProvider());
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,9 @@ public interface FileRepository extends JpaRepository<File, Long> {
     // 게시물 이미지 조회(삭제되지 않은 것만, 순서대로)
     List<File> findByPost_IdAndDeletedAtIsNullOrderByFileOrderAsc(Long postId);
 
+    // 여러 게시물 이미지 조회(삭제되지 않은 것만, 순서대로) - 일괄 조회용
+    List<File> findByPost_IdInAndDeletedAtIsNullOrderByFileOrderAsc(Collection<Long> postIds);
+
     // 게시물의 파일 개수 조회
     int countByPost_IdAndDeletedAtIsNull(Long postId);
 
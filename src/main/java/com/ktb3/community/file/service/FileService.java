@@ -6,6 +6,7 @@ import com.ktb3.community.file.repository.FileRepository;
 import com.ktb3.community.member.entity.Member;
 import com.ktb3.community.post.dto.PostDto;
 import com.ktb3.community.post.entity.Post;
+import com.ktb3.community.post.service.PostAuthorService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,7 +17,9 @@ import software.amazon.awssdk.services.s3.model.S3Exception;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -27,6 +30,7 @@ public class FileService {
 
     private final FileRepository fileRepository;
     private final S3Client s3Client;
+    private final PostAuthorService postAuthorService;
     private static final int MAX_IMAGE_COUNT = 5;
 
     @Value("${cloud.aws.s3.bucket}")
@@ -51,7 +55,13 @@ public class FileService {
                 req.getMimeType()
         );
 
-        return fileRepository.save(newProfile);
+        File saved = fileRepository.save(newProfile);
+
+        // 작성한 게시물의 읽기 모델(요약, 캐시, 변경 기록)에도 반영 + 작성자 버전 갱신 (상세/댓글 ETag)
+        postAuthorService.updateProfileKey(member.getId(), saved.getFilePath());
+        member.touchProfile();
+
+        return saved;
     }
 
     // 프로필 이미지 하드삭제
@@ -69,6 +79,10 @@ public class FileService {
 
                     // 2. DB 삭제
                     fileRepository.delete(existing);
+
+                    // 3. 작성한 게시물의 읽기 모델(요약, 캐시, 변경 기록)에서도 제거 + 작성자 버전 갱신 (상세/댓글 ETag)
+                    postAuthorService.updateProfileKey(member.getId(), null);
+                    member.touchProfile();
                 });
     }
 
@@ -90,6 +104,7 @@ public class FileService {
         fileRepository.findProfileByMemberId(memberId)
                 .ifPresent(file -> {
                     file.deleteFile();
+                    postAuthorService.updateProfileKey(memberId, null);
                 });
     }
 
@@ -98,6 +113,21 @@ public class FileService {
         return "https://" + bucket + ".s3." + region + ".amazonaws.com/" + key;
     }
 
+    // S3 URL로 변환 (프로필 이미지가 없는 경우처럼 key가 없으면 null)
+    public String buildFileUrlOrNull(String key) {
+        if (key == null) {
+            return null;
+        }
+        return buildFileUrl(key);
+    }
+
+    // 프로필 이미지 key 조회 (없으면 null)
+    public String getProfileImageKey(Long memberId) {
+        return fileRepository.findProfileByMemberId(memberId)
+                .map(File::getFilePath)
+                .orElse(null);
+    }
+
     // 프로필 이미지 조회
     public String getProfileImageUrl(Long memberId) {
 
@@ -238,6 +268,22 @@ public class FileService {
                 .collect(Collectors.toList());
     }
 
+    // 여러 게시물 이미지 URL 조회 (IN 쿼리 한 번) - 게시물 ID별, 이미지가 없으면 빈 목록
+    public Map<Long, List<String>> getPostImageUrlsByPostIds(Collection<Long> postIds) {
+
+        Map<Long, List<String>> result = new HashMap<>();
+        postIds.forEach(postId -> result.put(postId, new ArrayList<>()));
+
+        if (postIds.isEmpty()) {
+            return result;
+        }
+
+        fileRepository.findByPost_IdInAndDeletedAtIsNullOrderByFileOrderAsc(postIds)
+                .forEach(file -> result.get(file.getPost().getId()).add(buildFileUrl(file.getFilePath())));
+
+        return result;
+    }
+
     public List<PostDto.ImageDto> getPostImagesForEdit(Long postId) {
 
         List<File> files = fileRepository.findByPost_IdAndDeletedAtIsNullOrderByFileOrderAsc(postId);
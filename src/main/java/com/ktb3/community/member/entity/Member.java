@@ -33,7 +33,7 @@ public class Member {
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
-    @LastModifiedDate //수정 시 자동 업데이트
+    @LastModifiedDate //수정 시 자동 업데이트 - 게시물/댓글 ETag의 작성자 카드(닉네임, 프로필 이미지) 버전으로도 사용
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     @Column(name = "deleted_at")
@@ -50,6 +50,11 @@ public class Member {
         this.nickname = nickname;
     }
 
+    // 프로필 이미지 변경 - member 컬럼은 그대로라 직접 버전 갱신 (작성자 카드가 바뀌었음을 ETag에 반영)
+    public void touchProfile() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     public void delete() {
         this.deletedAt = LocalDateTime.now();
         this.email = this.email + "#DELETED#" + this.id;
@@ -12,6 +12,7 @@ import com.ktb3.community.member.entity.Member;
 import com.ktb3.community.member.entity.MemberAuth;
 import com.ktb3.community.member.repository.MemberAuthRepository;
 import com.ktb3.community.member.repository.MemberRepository;
+import com.ktb3.community.post.service.PostAuthorService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -20,6 +21,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+
 @Service
 @RequiredArgsConstructor
 public class MemberService {
@@ -28,6 +30,7 @@ public class MemberService {
     private final MemberAuthRepository memberAuthRepository;
     private final PasswordEncoder passwordEncoder;
     private final FileService fileService;
+    private final PostAuthorService postAuthorService;
 
     // 이메일 중복확인
     public boolean isEmailDuplicate(String email){
@@ -92,6 +95,9 @@ public class MemberService {
 
         member.updateNickname(nickname);
 
+        // 작성한 게시물의 읽기 모델(요약, 캐시, 변경 기록)에도 반영
+        postAuthorService.updateNickname(memberId, nickname);
+
         return member.getNickname();
     }
 
@@ -134,8 +140,9 @@ public class MemberService {
             throw new BusinessException(HttpStatus.BAD_REQUEST, "이미 탈퇴한 회원입니다.");
         }
 
-        // 3. 회원 논리 삭제
+        // 3. 회원 논리 삭제 (바뀐 닉네임을 작성한 게시물의 읽기 모델에도 반영)
         member.delete();
+        postAuthorService.updateNickname(memberId, member.getNickname());
 
         // 4. 회원 프로필 논리 삭제
         fileService.softDeleteProfileImage(memberId);
@@ -0,0 +1,68 @@
+package com.ktb3.community.post.controller;
+
+import com.ktb3.community.auth.annotation.AuthMemberId;
+import com.ktb3.community.post.dto.PostCommentDto;
+import com.ktb3.community.post.dto.PostDto;
+import com.ktb3.community.post.service.MyActivityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/users/me")
+@RequiredArgsConstructor
+public class MyActivityController {
+
+    private final MyActivityService myActivityService;
+
+    /**
+     * 내가 쓴 게시물 - 최신순 커서 페이징
+     */
+    @GetMapping("/posts")
+    public ResponseEntity<PostDto.PostListPageResponse> getMyPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthMemberId Long memberId) {
+
+        // 최대 크기 제한
+        if (size > 100) {
+            size = 100;
+        }
+
+        return ResponseEntity.ok(myActivityService.getMyPosts(memberId, cursor, size));
+    }
+
+    /**
+     * 내가 쓴 댓글 - 최신순 커서 페이징 (게시물 제목 포함)
+     */
+    @GetMapping("/comments")
+    public ResponseEntity<PostCommentDto.MyCommentPageResponse> getMyComments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthMemberId Long memberId) {
+
+        // 최대 크기 제한
+        if (size > 100) {
+            size = 100;
+        }
+
+        return ResponseEntity.ok(myActivityService.getMyComments(memberId, cursor, size));
+    }
+
+    /**
+     * 내가 좋아요한 게시물 - 최근 좋아요순 커서 페이징
+     */
+    @GetMapping("/likes")
+    public ResponseEntity<PostDto.PostListPageResponse> getMyLikes(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthMemberId Long memberId) {
+
+        // 최대 크기 제한
+        if (size > 100) {
+            size = 100;
+        }
+
+        return ResponseEntity.ok(myActivityService.getMyLikes(memberId, cursor, size));
+    }
+}
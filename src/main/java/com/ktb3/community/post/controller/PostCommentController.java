@@ -1,8 +1,11 @@
 package com.ktb3.community.post.controller;
 
 import com.ktb3.community.auth.annotation.AuthMemberId;
+import com.ktb3.community.common.util.EtagUtil;
+import com.ktb3.community.common.util.FieldSelection;
 import com.ktb3.community.post.dto.PostCommentDto;
 import com.ktb3.community.post.service.PostCommentService;
+import com.ktb3.community.post.service.PostCommentThreadService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -10,7 +13,9 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.util.Map;
 
@@ -20,6 +25,7 @@ import java.util.Map;
 public class PostCommentController {
 
     private final PostCommentService commentService;
+    private final PostCommentThreadService threadService;
 
     /**
      * 댓글 리스트
@@ -30,22 +36,88 @@ public class PostCommentController {
      * @return
      */
     @GetMapping
-    public ResponseEntity<Page<PostCommentDto.CommentResponse>> getComments(
+    public ResponseEntity<MappingJacksonValue> getComments(
             @PathVariable Long postId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @AuthMemberId Long memberId) {
+            @RequestParam(required = false) String fields,
+            @AuthMemberId Long memberId,
+            ServletWebRequest webRequest) {
 
         Pageable pageable = PageRequest.of(page, size);
 
+        // 바뀐 게 없으면 목록을 만들지 않고 304 (응답 형식별 ETag)
+        if (EtagUtil.checkNotModified(webRequest, commentService.getCommentsEtag(postId, memberId, pageable))) {
+            return null;
+        }
+
         Page<PostCommentDto.CommentResponse> comments =
                 commentService.getComments(postId, memberId, pageable);
 
-        return ResponseEntity.ok(comments);
+        // 선택한 필드만 응답 (fields=commentId,comment 등)
+        return ResponseEntity.ok(FieldSelection.parse(fields).apply(comments));
+    }
+
+    /**
+     * 댓글 리스트 (커서 기반)
+     * @param postId
+     * @param cursor - 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size
+     * @param memberId
+     * @return
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<MappingJacksonValue> getCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            @AuthMemberId Long memberId,
+            ServletWebRequest webRequest) {
+
+        // 최대 크기 제한
+        if (size > 100) {
+            size = 100;
+        }
+
+        // 바뀐 게 없으면 목록을 만들지 않고 304 (응답 형식별 ETag)
+        if (EtagUtil.checkNotModified(webRequest, commentService.getCommentsByCursorEtag(postId, memberId, cursor, size))) {
+            return null;
+        }
+
+        // 선택한 필드만 조회/응답 (프로필 이미지를 빼면 프로필 조인 없이 조회)
+        FieldSelection selection = FieldSelection.parse(fields);
+        PostCommentDto.CommentSliceResponse response =
+                commentService.getCommentsByCursor(postId, memberId, cursor, size, selection);
+
+        return ResponseEntity.ok(selection.apply(response));
+    }
+
+    /**
+     * 댓글 스레드 - 루트 댓글 최신순 커서 페이징, 루트마다 답글 트리 포함
+     * @param postId
+     * @param cursor - 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size - 루트 댓글 개수
+     * @param memberId
+     * @return
+     */
+    @GetMapping("/threads")
+    public ResponseEntity<PostCommentDto.CommentThreadPageResponse> getThreads(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @AuthMemberId Long memberId) {
+
+        // 최대 크기 제한
+        if (size > 100) {
+            size = 100;
+        }
+
+        return ResponseEntity.ok(threadService.getThreads(postId, memberId, cursor, size));
     }
 
     /**
-     * 댓글 생성
+     * 댓글 생성 (parentId가 있으면 답글)
      * @param postId
      * @param request
      * @param memberId
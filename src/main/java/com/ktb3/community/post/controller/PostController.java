@@ -2,13 +2,22 @@ package com.ktb3.community.post.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ktb3.community.auth.annotation.AuthMemberId;
+import com.ktb3.community.common.util.EtagUtil;
+import com.ktb3.community.common.util.FieldSelection;
 import com.ktb3.community.post.dto.PostDto;
+import com.ktb3.community.post.service.PostChangeService;
+import com.ktb3.community.post.service.PostExportService;
+import com.ktb3.community.post.service.PostFeedCache;
+import com.ktb3.community.post.service.PostPageService;
 import com.ktb3.community.post.service.PostService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import java.io.IOException;
 import java.util.List;
@@ -20,13 +29,43 @@ import java.util.Map;
 public class PostController {
 
     private final PostService postService;
+    private final PostExportService postExportService;
+    private final PostChangeService postChangeService;
+    private final PostPageService postPageService;
 
     /**
-     * 게시물 목록 조회 - 커서 페이징
+     * 게시물 목록 조회 - 커서 페이징 (sort: LATEST, OLDEST, MOST_LIKED, MOST_COMMENTED, MOST_VIEWED)
      */
     @GetMapping
-    public ResponseEntity<PostDto.PostListPageResponse> getPosts(
-            @RequestParam(required = false) Long cursor,
+    public ResponseEntity<MappingJacksonValue> getPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "LATEST") PostDto.SortType sort,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String fields,
+            ServletWebRequest webRequest) {
+
+        // 최대 크기 제한
+        if (size > 100) {
+            size = 100;
+        }
+
+        // 페이지 캐시에서 조회 (ETag 포함)
+        PostFeedCache.Page page = postService.getPostList(sort, cursor, size);
+
+        // 바뀐 게 없으면 304 (응답 형식별 ETag)
+        if (EtagUtil.checkNotModified(webRequest, page.etag())) {
+            return null;
+        }
+
+        // 선택한 필드만 응답 (fields=postId,title,likeCount 등 - 캐시된 페이지는 그대로 두고 직렬화만)
+        return ResponseEntity.ok(FieldSelection.parse(fields).apply(page.response()));
+    }
+
+    /**
+     * 인기 게시물 - 좋아요/댓글/조회수에 시간 감쇠를 적용한 점수순
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostDto.PostListResponse>> getTrendingPosts(
             @RequestParam(defaultValue = "20") int size) {
 
         // 최대 크기 제한
@@ -34,25 +73,110 @@ public class PostController {
             size = 100;
         }
 
-        PostDto.PostListPageResponse response = postService.getPostList(cursor, size);
+        return ResponseEntity.ok(postService.getTrendingPosts(size));
+    }
+
+    /**
+     * 변경 동기화 - since 토큰 이후 작성/수정/삭제된 게시물 ID와 현재 요약
+     * (since 없이 호출하면 현재 토큰만 반환, 만료된 토큰이면 410)
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<PostDto.PostChangesResponse> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size) {
+
+        // 최대 크기 제한
+        if (size > 500) {
+            size = 500;
+        }
+
+        return ResponseEntity.ok(postChangeService.getChanges(since, size));
+    }
+
+    /**
+     * 게시물 검색 - 제목/내용, 관련도순 커서 페이징
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PostDto.PostSearchPageResponse> searchPosts(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        // 최대 크기 제한
+        if (size > 100) {
+            size = 100;
+        }
+
+        PostDto.PostSearchPageResponse response = postService.searchPosts(query, cursor, size);
 
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 게시물/댓글 전체 내보내기 (NDJSON 스트리밍) - 허용된 회원만(아니면 403), 동시 실행 수 제한(넘으면 429), 응답별 제한 시간
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<ResponseBodyEmitter> exportPosts(
+            @RequestParam(defaultValue = "false") boolean includeComments,
+            @AuthMemberId Long memberId) {
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(postExportService.startExport(memberId, includeComments));
+    }
+
     /**
      * 게시물 상세 조회
      */
     @GetMapping("/{postId}")
-    public ResponseEntity<PostDto.PostDetailResponse> getPostDetail(
+    public ResponseEntity<MappingJacksonValue> getPostDetail(
             @PathVariable Long postId,
+            @RequestParam(required = false) String fields,
+            @AuthMemberId Long memberId,
+            ServletWebRequest webRequest) {
+
+        // 바뀐 게 없으면 상세를 만들지 않고 304 (조회수는 증가, 응답 형식별 ETag)
+        String etag = postService.getPostDetailEtag(postId, memberId);
+        if (EtagUtil.checkNotModified(webRequest, etag)) {
+            postService.countView(postId);
+            return null;
+        }
+
+        // 게시물 상세 조회 - 선택한 필드에 필요 없는 조회(본문, 이미지, 프로필, 좋아요 여부)는 건너뜀
+        FieldSelection selection = FieldSelection.parse(fields);
+        PostDto.PostDetailResponse response = postService.getPostDetail(postId, memberId, selection);
+
+        return ResponseEntity.ok(selection.apply(response));
+    }
+
+
+    /**
+     * 게시물 화면 조회 - 상세 + 댓글 첫 페이지 (다음 댓글은 /api/posts/{postId}/comments/cursor)
+     */
+    @GetMapping("/{postId}/page")
+    public ResponseEntity<PostDto.PostPageResponse> getPostPage(
+            @PathVariable Long postId,
+            @RequestParam(defaultValue = "10") int commentSize,
             @AuthMemberId Long memberId) {
 
-        // 게시물 상세 조회
-        PostDto.PostDetailResponse response = postService.getPostDetail(postId, memberId);
+        // 최대 크기 제한
+        if (commentSize > 100) {
+            commentSize = 100;
+        }
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok(postPageService.getPostPage(postId, memberId, commentSize));
     }
 
+    /**
+     * 게시물 일괄 조회 - 요청한 ID 순서대로 상세 응답 (최대 50개, 없는 게시물은 found=false)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<PostDto.PostBatchResponse> getPostsBatch(
+            @RequestBody PostDto.PostBatchRequest request,
+            @AuthMemberId Long memberId) {
+
+        return ResponseEntity.ok(postService.getPostsBatch(request.getPostIds(), memberId));
+    }
 
     /**
      * 게시물 등록
@@ -0,0 +1,32 @@
+package com.ktb3.community.post.controller;
+
+import com.ktb3.community.post.dto.PostDto;
+import com.ktb3.community.post.service.PostTagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final PostTagService tagService;
+
+    /**
+     * 태그별 게시물 목록 - 최신순 커서 페이징 + 태그가 달린 게시물 수
+     */
+    @GetMapping("/{tagName}/posts")
+    public ResponseEntity<PostDto.TagFeedResponse> getTagFeed(
+            @PathVariable String tagName,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        // 최대 크기 제한
+        if (size > 100) {
+            size = 100;
+        }
+
+        return ResponseEntity.ok(tagService.getTagFeed(tagName, cursor, size));
+    }
+}
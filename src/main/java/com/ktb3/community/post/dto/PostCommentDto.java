@@ -1,6 +1,9 @@
 package com.ktb3.community.post.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.ktb3.community.common.util.CursorUtil;
+import com.ktb3.community.common.util.FieldSelection;
 import com.ktb3.community.post.entity.PostComment;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Builder;
@@ -8,6 +11,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 public class PostCommentDto {
 
@@ -17,10 +22,14 @@ public class PostCommentDto {
 
         @NotBlank(message = "댓글 내용을 입력해주세요.")
         private String comment;
+
+        // 답글이면 부모 댓글 ID (없으면 루트 댓글)
+        private Long parentId;
     }
 
     @Getter
     @Builder
+    @JsonFilter(FieldSelection.FILTER_ID)  // fields= 로 선택한 속성만 응답
     public static class CommentResponse {
 
         private Long commentId;
@@ -55,5 +64,201 @@ public class PostCommentDto {
                     .build();
         }
 
+        public static CommentResponse from(CommentRow row, String profileImageUrl, Long currentMemberId) {
+
+            // 내가 작성한 댓글인지 확인
+            boolean isAuthor = currentMemberId != null
+                    && row.authorId().equals(currentMemberId);
+
+            return CommentResponse.builder()
+                    .commentId(row.commentId())
+                    .postId(row.postId())
+                    .comment(row.comment())
+                    .authorId(row.authorId())
+                    .authorNickname(row.authorNickname())
+                    .authorProfileImageUrl(profileImageUrl)
+                    .createdAt(row.createdAt())
+                    .isAuthor(isAuthor)
+                    .build();
+        }
+
+    }
+
+    /**
+     * 댓글 목록 조회용 프로젝션 - 작성자 프로필 이미지 key, 전체 댓글 수까지 한 번에 조회
+     */
+    public record CommentRow(Long commentId,
+                             Long postId,
+                             String comment,
+                             Long authorId,
+                             String authorNickname,
+                             String authorProfileKey,
+                             LocalDateTime createdAt,
+                             Long totalCount) {
+
+        // 전체 댓글 수 없이 조회할 때 (커서 페이징)
+        public CommentRow(Long commentId, Long postId, String comment, Long authorId,
+                          String authorNickname, String authorProfileKey, LocalDateTime createdAt) {
+            this(commentId, postId, comment, authorId, authorNickname, authorProfileKey, createdAt, null);
+        }
+
+        // 프로필 이미지를 따로(IN 쿼리로 모아서) 조회할 때
+        public CommentRow(Long commentId, Long postId, String comment, Long authorId,
+                          String authorNickname, LocalDateTime createdAt) {
+            this(commentId, postId, comment, authorId, authorNickname, null, createdAt, null);
+        }
+    }
+
+    /**
+     * 내가 쓴 댓글 조회용 프로젝션 - 게시물 제목은 따로(IN 쿼리로 모아서) 조회
+     */
+    public record MyCommentRow(Long commentId,
+                               Long postId,
+                               String comment,
+                               LocalDateTime createdAt) {
+    }
+
+    /**
+     * 댓글 버전 - ETag 비교용 (작성자 닉네임/프로필 이미지가 바뀌면 authorUpdatedAt도 바뀜)
+     */
+    public record CommentVersion(Long commentId, LocalDateTime updatedAt, LocalDateTime authorUpdatedAt) {
+    }
+
+    /**
+     * 댓글 목록 응답 (커서 기반)
+     */
+    @Getter
+    @Builder
+    public static class CommentSliceResponse {
+
+        private List<CommentResponse> comments; // 댓글 리스트
+        private String nextCursor;  // 다음 페이지 커서 (마지막 댓글의 작성일 + ID)
+        private boolean hasNext;    // 다음 페이지 존재 여부
+
+        public static CommentSliceResponse of(List<CommentResponse> comments, int requestSize) {
+
+            // 댓글 리스트의 사이즈가 더 크면 다음페이지 존재
+            boolean hasNext = comments.size() > requestSize;
+
+            // 실제 반환할 데이터 자르기
+            List<CommentResponse> content = hasNext
+                    ? comments.subList(0, requestSize)
+                    : comments;
+
+            // nextCursor 계산: 마지막 댓글의 (작성일, ID)
+            String nextCursor = null;
+            if (!content.isEmpty()) {
+                CommentResponse last = content.get(content.size() - 1);
+                nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getCommentId());
+            }
+
+            return CommentSliceResponse.builder()
+                    .comments(content)
+                    .nextCursor(nextCursor)
+                    .hasNext(hasNext)
+                    .build();
+        }
+    }
+
+    /**
+     * 내가 쓴 댓글 - 어느 게시물에 쓴 댓글인지(제목) 함께 응답
+     */
+    @Getter
+    @Builder
+    public static class MyCommentResponse {
+
+        private Long commentId;
+        private Long postId;
+        private String postTitle;
+        private String comment;
+        private LocalDateTime createdAt;
+
+        public static MyCommentResponse from(MyCommentRow row, String postTitle) {
+            return MyCommentResponse.builder()
+                    .commentId(row.commentId())
+                    .postId(row.postId())
+                    .postTitle(postTitle)
+                    .comment(row.comment())
+                    .createdAt(row.createdAt())
+                    .build();
+        }
+    }
+
+    /**
+     * 내가 쓴 댓글 목록 응답 (최신순, 커서 기반)
+     */
+    @Getter
+    @Builder
+    public static class MyCommentPageResponse {
+
+        private List<MyCommentResponse> comments;
+        private String nextCursor;  // 다음 페이지 커서 (마지막 댓글 ID)
+        private boolean hasNext;
+    }
+
+    /**
+     * 스레드 조회용 프로젝션 - path 순서(부모 다음에 자식), 프로필 이미지는 따로(IN 쿼리로 모아서) 조회
+     */
+    public record ThreadRow(Long commentId,
+                            Long parentId,
+                            int depth,
+                            String path,
+                            String comment,
+                            Long authorId,
+                            String authorNickname,
+                            LocalDateTime createdAt) {
+    }
+
+    /**
+     * 스레드 댓글 - 하위 답글(replies)을 트리 형태로 포함
+     */
+    @Getter
+    @Builder
+    public static class CommentThreadResponse {
+
+        private Long commentId;
+        private Long parentId;
+        private int depth;
+        private String comment;
+
+        // 작성자 정보
+        private Long authorId;
+        private String authorNickname;
+        private String authorProfileImageUrl;
+
+        private LocalDateTime createdAt;
+
+        // 권한
+        private boolean isAuthor;
+
+        // 답글 (오래된순)
+        private List<CommentThreadResponse> replies;
+
+        public static CommentThreadResponse from(ThreadRow row, String profileImageUrl, Long currentMemberId) {
+            return CommentThreadResponse.builder()
+                    .commentId(row.commentId())
+                    .parentId(row.parentId())
+                    .depth(row.depth())
+                    .comment(row.comment())
+                    .authorId(row.authorId())
+                    .authorNickname(row.authorNickname())
+                    .authorProfileImageUrl(profileImageUrl)
+                    .createdAt(row.createdAt())
+                    .isAuthor(currentMemberId != null && row.authorId().equals(currentMemberId))
+                    .replies(new ArrayList<>())
+                    .build();
+        }
+    }
+
+    /**
+     * 스레드 목록 응답 - 루트 댓글 최신순 커서 페이징, 루트마다 답글 트리 전체
+     */
+    @Getter
+    @Builder
+    public static class CommentThreadPageResponse {
+
+        private List<CommentThreadResponse> comments;
+        private String nextCursor;  // 다음 페이지 커서 (마지막 루트 댓글 ID)
+        private boolean hasNext;
     }
 }
@@ -1,17 +1,23 @@
 package com.ktb3.community.post.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.ktb3.community.common.util.CursorUtil;
+import com.ktb3.community.common.util.FieldSelection;
 import com.ktb3.community.post.entity.Post;
+import com.ktb3.community.post.entity.PostChangeLog;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 
 public class PostDto {
 
     @Getter
     @Builder
+    @JsonFilter(FieldSelection.FILTER_ID)  // fields= 로 선택한 속성만 응답
     public static class PostListResponse{
 
         private Long postId;
@@ -29,58 +35,220 @@ public class PostDto {
 
         private LocalDateTime createdAt;
 
-        public static PostListResponse from(Post post,
-                                            long likeCount,
-                                            long commentCount,
-                                          String authorProfileImageUrl) {
+        public static PostListResponse from(PostFeedRow row,
+                                            long hit,
+                                            String authorProfileImageUrl) {
             return PostListResponse.builder()
-                    .postId(post.getId())
-                    .title(post.getTitle())
-                    .hit(post.getHit())
-                    .likeCount(likeCount)
-                    .commentCount(commentCount)
-                    .authorId(post.getMember().getId())
-                    .authorNickname(post.getMember().getNickname())
+                    .postId(row.postId())
+                    .title(row.title())
+                    .hit(hit)
+                    .likeCount(row.likeCount())
+                    .commentCount(row.commentCount())
+                    .authorId(row.authorId())
+                    .authorNickname(row.authorNickname())
                     .authorProfileImageUrl(authorProfileImageUrl)
-                    .createdAt(post.getCreatedAt())
+                    .createdAt(row.createdAt())
                     .build();
 
         }
     }
 
+    /**
+     * 게시물 목록 조회용 프로젝션 - 목록에 필요한 컬럼만 조회 (content(LONGTEXT) 제외, 엔티티 로딩X)
+     * 작성자 프로필 이미지 key까지 한 번의 쿼리로 함께 조회
+     */
+    public record PostFeedRow(Long postId,
+                              String title,
+                              long hit,
+                              long likeCount,
+                              long commentCount,
+                              LocalDateTime createdAt,
+                              Long authorId,
+                              String authorNickname,
+                              String authorProfileKey) {
+    }
+
+    /**
+     * 게시물 버전 - ETag 비교용 (본문 조인 없이 post 행의 컬럼 + 작성자 카드 버전)
+     */
+    public record PostVersion(Long postId,
+                              LocalDateTime updatedAt,
+                              long hit,
+                              long likeCount,
+                              long commentCount,
+                              LocalDateTime authorUpdatedAt) {
+    }
+
+    /**
+     * 내보내기(NDJSON) - 게시물 한 줄
+     */
+    public record PostExportLine(String type,
+                                 Long postId,
+                                 String title,
+                                 String content,
+                                 Long authorId,
+                                 String authorNickname,
+                                 long hit,
+                                 long likeCount,
+                                 long commentCount,
+                                 LocalDateTime createdAt) {
+    }
+
+    /**
+     * 내보내기(NDJSON) - 댓글 한 줄
+     */
+    public record CommentExportLine(String type,
+                                    Long commentId,
+                                    Long postId,
+                                    String comment,
+                                    Long authorId,
+                                    String authorNickname,
+                                    LocalDateTime createdAt) {
+    }
+
     @Getter
     @Builder
     public static class PostListPageResponse {
 
         private List<PostListResponse> posts; // 게시물 리스트
-        private Long nextCursor;  // 다음 페이지 커서 (마지막 게시물 ID)
+        private String nextCursor;  // 다음 페이지 커서 (정렬 기준 + 마지막 게시물의 정렬 값, ID)
         private boolean hasNext;  // 다음 페이지 존재 여부
 
-        public static PostListPageResponse of(List<PostListResponse> posts, int requestSize) {
+        public static PostListPageResponse of(List<PostFeedRow> rows,
+                                              int requestSize,
+                                              SortType sort,
+                                              Function<PostFeedRow, PostListResponse> toResponse) {
 
             // 게시물 리스트의 사이즈가 더 크면 다음페이지 존재
-            boolean hasNext = posts.size() > requestSize;
+            boolean hasNext = rows.size() > requestSize;
 
             // 실제 반환할 데이터 자르기
-            List<PostListResponse> content = hasNext
-                    ? posts.subList(0, requestSize)
-                    : posts;
+            List<PostFeedRow> content = hasNext
+                    ? rows.subList(0, requestSize)
+                    : rows;
 
-            // nextCursor 계산: 마지막 게시물의 ID
-            Long nextCursor = content.isEmpty()
+            // nextCursor 계산: 마지막 게시물의 (정렬 값, ID) - 화면용 조회수가 아닌 DB 값 기준
+            String nextCursor = content.isEmpty()
                     ? null
-                    : content.get(content.size() - 1).getPostId();
+                    : sort.cursorOf(content.get(content.size() - 1));
 
             return PostListPageResponse.builder()
-                    .posts(content)
+                    .posts(content.stream().map(toResponse).toList())
                     .nextCursor(nextCursor)
                     .hasNext(hasNext)
                     .build();
         }
     }
 
+    /**
+     * 게시물 목록 정렬 기준 - 모두 (정렬 값, post_id) 키셋 페이징
+     */
+    public enum SortType {
+        LATEST,          // 최신순 (post_id DESC)
+        OLDEST,          // 오래된순 (post_id ASC)
+        MOST_LIKED,      // 좋아요순
+        MOST_COMMENTED,  // 댓글순
+        MOST_VIEWED;     // 조회순
+
+        public long sortValueOf(PostFeedRow row) {
+            return switch (this) {
+                case LATEST, OLDEST -> row.postId();
+                case MOST_LIKED -> row.likeCount();
+                case MOST_COMMENTED -> row.commentCount();
+                case MOST_VIEWED -> row.hit();
+            };
+        }
+
+        public String cursorOf(PostFeedRow row) {
+            return CursorUtil.encode(name(), sortValueOf(row), row.postId());
+        }
+
+        /**
+         * 커서 해석 → [정렬 값, 게시물 ID] (첫 페이지는 null)
+         * - 이전 버전의 숫자 커서(마지막 게시물 ID)는 최신순에서 그대로 허용
+         */
+        public long[] parseCursor(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+
+            try {
+                if (this == LATEST && cursor.chars().allMatch(Character::isDigit)) {
+                    long postId = Long.parseLong(cursor);
+                    return new long[]{postId, postId};
+                }
+
+                String[] values = CursorUtil.decode(cursor, 3);
+                if (!name().equals(values[0])) {
+                    throw CursorUtil.invalidCursor();  // 다른 정렬의 커서
+                }
+                return new long[]{Long.parseLong(values[1]), Long.parseLong(values[2])};
+            } catch (NumberFormatException e) {
+                throw CursorUtil.invalidCursor();
+            }
+        }
+    }
+
+    /**
+     * 게시물 검색 결과 (BM25 점수순, 커서 기반)
+     */
+    @Getter
+    @Builder
+    public static class PostSearchPageResponse {
+
+        private List<PostListResponse> posts; // 게시물 리스트
+        private String nextCursor;  // 다음 페이지 커서 (마지막 결과의 점수 + 게시물 ID)
+        private boolean hasNext;    // 다음 페이지 존재 여부
+    }
+
+    /**
+     * 태그별 게시물 목록 (최신순, 커서 기반)
+     */
+    @Getter
+    @Builder
+    public static class TagFeedResponse {
+
+        private String tag;
+        private long postCount;     // 태그가 달린 게시물 수 (tag.post_count)
+        private List<PostListResponse> posts;
+        private String nextCursor;  // 다음 페이지 커서 (최신순 목록과 같은 형식)
+        private boolean hasNext;
+
+        public static TagFeedResponse of(String tag, long postCount, PostListPageResponse page) {
+            return TagFeedResponse.builder()
+                    .tag(tag)
+                    .postCount(postCount)
+                    .posts(page.getPosts())
+                    .nextCursor(page.getNextCursor())
+                    .hasNext(page.isHasNext())
+                    .build();
+        }
+    }
+
+    /**
+     * 변경 동기화 응답 - since 이후 바뀐 게시물 (마지막 변경 순서대로)
+     */
+    @Getter
+    @Builder
+    public static class PostChangesResponse {
+
+        private List<PostChangeResponse> changes;
+        private String nextToken;   // 다음 요청의 since (변경이 없으면 요청한 since 그대로)
+        private boolean hasMore;    // 바로 이어서 더 받을 변경이 있는지
+    }
+
+    @Getter
+    @Builder
+    public static class PostChangeResponse {
+
+        private Long postId;
+        private PostChangeLog.ChangeType changeType;  // CREATED, UPDATED, DELETED
+        private PostListResponse post;                // 현재 요약 (삭제된 게시물은 null)
+    }
+
     @Getter
     @Builder
+    @JsonFilter(FieldSelection.FILTER_ID)  // fields= 로 선택한 속성만 응답
     public static class PostDetailResponse {
 
         // 게시물 기본 정보
@@ -105,33 +273,121 @@ public class PostDto {
         private final boolean isAuthor;  // 내가 작성한 게시물인가?
         private final boolean isLiked;   // 내가 좋아요를 눌렀는가?
 
-        public static PostDetailResponse of(Post post,
-                                            List<String> imageUrls,
-                                            String profileImageUrl,
-                                            long likeCount,
-                                            long commentCount,
+        public static PostDetailResponse of(PostDetailSnapshot snapshot,
+                                            long hit,
                                             boolean isAuthor,
                                             boolean isLiked) {
             return PostDetailResponse.builder()
+                    .postId(snapshot.getPostId())
+                    .title(snapshot.getTitle())
+                    .content(snapshot.getContent())
+                    .imageUrls(snapshot.getImageUrls())
+                    .hit(hit)
+                    .likeCount(snapshot.getLikeCount())
+                    .commentCount(snapshot.getCommentCount())
+                    .authorId(snapshot.getAuthorId())
+                    .authorNickname(snapshot.getAuthorNickname())
+                    .authorProfileImageUrl(snapshot.getAuthorProfileImageUrl())
+                    .createdAt(snapshot.getCreatedAt())
+                    .isAuthor(isAuthor)
+                    .isLiked(isLiked)
+                    .build();
+        }
+    }
+
+    /**
+     * 게시물 상세 중 조회자와 무관한 부분 (PostDetailCache에 저장)
+     * - hit은 DB에 반영된 조회수 (아직 반영 안된 누적분은 응답 만들 때 더함)
+     */
+    @Getter
+    @Builder(toBuilder = true)
+    public static class PostDetailSnapshot {
+
+        private final Long postId;
+        private final String title;
+        private final String content;
+        private final List<String> imageUrls;
+
+        private final long hit;
+        private final long likeCount;
+        private final long commentCount;
+
+        private final Long authorId;
+        private final String authorNickname;
+        private final String authorProfileImageUrl;
+
+        private final LocalDateTime createdAt;
+
+        public static PostDetailSnapshot of(Post post, String content, List<String> imageUrls, String profileImageUrl) {
+            return PostDetailSnapshot.builder()
                     .postId(post.getId())
                     .title(post.getTitle())
-                    .content(post.getContent())
-                    .imageUrls(imageUrls)
+                    .content(content)
+                    .imageUrls(List.copyOf(imageUrls))
                     .hit(post.getHit())
-                    .likeCount(likeCount)
-                    .commentCount(commentCount)
+                    .likeCount(post.getLikeCount())
+                    .commentCount(post.getCommentCount())
                     .authorId(post.getMember().getId())
                     .authorNickname(post.getMember().getNickname())
                     .authorProfileImageUrl(profileImageUrl)
                     .createdAt(post.getCreatedAt())
-                    .isAuthor(isAuthor)
-                    .isLiked(isLiked)
                     .build();
         }
     }
 
 
 
+    /**
+     * 게시물 화면 응답 - 상세 + 댓글 첫 페이지 (커서 기반, 다음 페이지는 댓글 목록 API로)
+     */
+    @Getter
+    @Builder
+    public static class PostPageResponse {
+
+        private PostDetailResponse post;
+        private PostCommentDto.CommentSliceResponse comments;
+    }
+
+    /**
+     * 게시물 일괄 조회 요청 - 미리 불러올 게시물 ID 목록
+     */
+    @Getter
+    @NoArgsConstructor
+    public static class PostBatchRequest {
+
+        private List<Long> postIds;
+
+        public PostBatchRequest(List<Long> postIds) {
+            this.postIds = postIds;
+        }
+    }
+
+    /**
+     * 게시물 일괄 조회 응답 - 요청한 순서대로, 없거나 삭제된 게시물은 found=false
+     */
+    @Getter
+    @Builder
+    public static class PostBatchResponse {
+
+        private List<PostBatchItem> results;
+    }
+
+    @Getter
+    @Builder
+    public static class PostBatchItem {
+
+        private Long postId;
+        private boolean found;
+        private PostDetailResponse post;  // found=false면 null
+
+        public static PostBatchItem notFound(Long postId) {
+            return PostBatchItem.builder()
+                    .postId(postId)
+                    .found(false)
+                    .build();
+        }
+    }
+
     @Getter
     @NoArgsConstructor
     public static class PostCreateRequest{
@@ -144,11 +400,16 @@ public class PostDto {
 
         private List<ImageRequest> images;
 
+        // 태그 이름 (없으면 태그 없음)
+        @Size(max = 10, message = "태그는 10개까지 등록할 수 있습니다.")
+        private List<String> tags;
+
         @Builder
-        public PostCreateRequest(String title, String content, List<ImageRequest> images) {
+        public PostCreateRequest(String title, String content, List<ImageRequest> images, List<String> tags) {
             this.title = title;
             this.content = content;
             this.images = images;
+            this.tags = tags;
         }
 
         @Getter
@@ -170,13 +431,15 @@ public class PostDto {
         private String content;
         private String author;
         private List<String> imageUrls;
+        private List<String> tags;
 
-        public static PostResponse from(Post post,List<String> imageUrls){
+        public static PostResponse from(Post post, String content, List<String> imageUrls, List<String> tags){
             return PostResponse.builder()
                     .postId(post.getId())
                     .title(post.getTitle())
-                    .content(post.getContent())
+                    .content(content)
                     .imageUrls(imageUrls)
+                    .tags(tags)
                     .author(post.getMember().getNickname())
                     .build();
         }
@@ -192,6 +455,10 @@ public class PostDto {
 
         // 새로 교체할 이미지 (없으면 null)
         private PostCreateRequest.ImageRequest newImage;
+
+        // 태그 전체 교체 (null이면 기존 유지, 빈 배열이면 모두 제거)
+        @Size(max = 10, message = "태그는 10개까지 등록할 수 있습니다.")
+        private List<String> tags;
     }
 
     @Getter
@@ -210,13 +477,15 @@ public class PostDto {
         private String title;
         private String content;
         private List<ImageDto> images; // 단일 이미지라도 배열 형태로 통일
+        private List<String> tags;
 
-        public static PostEditResponse from(Post post, List<ImageDto> images) {
+        public static PostEditResponse from(Post post, String content, List<ImageDto> images, List<String> tags) {
             return new PostEditResponse(
                     post.getId(),
                     post.getTitle(),
-                    post.getContent(),
-                    images
+                    content,
+                    images,
+                    tags
             );
         }
     }
@@ -3,6 +3,8 @@ package com.ktb3.community.post.dto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 public class PostLikeDto {
 
     @Getter
@@ -14,4 +16,10 @@ public class PostLikeDto {
         private long likeCount;
     }
 
+    /**
+     * 좋아요한 게시물 조회용 프로젝션 - 게시물 ID + 좋아요 시각 (커서)
+     */
+    public record LikedPostRow(Long postId, LocalDateTime likedAt) {
+    }
+
 }
@@ -6,7 +6,9 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -15,9 +17,14 @@ import java.time.LocalDateTime;
  * 게시물 엔티티
  * 관계 설계 : Member : Post = 1:N (단방향)
  *  → 회원쪽에서는 항상 게시물 조회할 필요없음
+ * 본문은 PostContent(post_content)로 분리 - post를 읽는 쓰기 경로가 LONGTEXT를 로딩하지 않도록
+ * 조회수(hit), 좋아요/댓글 수는 SQL로 직접 더해주므로,
+ * 변경된 컬럼만 UPDATE 하도록(@DynamicUpdate) 해서 수정 시 카운트를 덮어쓰지 않게 함
+ * 목록 조회/정렬은 PostSummary(post_summary)에서 - 정렬용 인덱스도 그쪽에 있음
  */
 @Entity
 @Getter
+@DynamicUpdate
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class Post {
@@ -28,14 +35,21 @@ public class Post {
     private Long id;
     @Column(nullable = false, length = 150)
     private String title;
-    @Column(nullable = false, columnDefinition = "LONGTEXT")
-    private String content;
     @Column(nullable = false)
     private long hit = 0L;
+    // 목록/상세에서 매번 COUNT 하지 않도록 좋아요/댓글 수를 함께 저장 (증감은 PostRepository에서 원자적으로)
+    @Column(name = "like_count", nullable = false)
+    private long likeCount = 0L;
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount = 0L;
 
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
+    // 내용이 바뀔 때마다 갱신 - ETag(조건부 조회) 버전으로 사용
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
@@ -45,21 +59,21 @@ public class Post {
     private Member member;
 
     @Builder
-    public Post(Member member, String title, String content){
+    public Post(Member member, String title){
         this.member = member;
         this.title = title;
-        this.content = content;
         this.hit = 0;
+        this.likeCount = 0;
+        this.commentCount = 0;
     }
 
-    public void updatePost(String title, String content) {
+    public void updatePost(String title) {
         this.title = title;
-        this.content = content;
     }
 
-    // TODO. 대규모 일때는 조회수 관리 어떻게 할건지 고민필요(동시성 이슈) - 근데 엄청 자세하게 보여줄필요는 없지 않나?
-    public void increaseHit() {
-        this.hit ++;
+    // 제목/내용 외의 변경(이미지 교체 등)도 버전이 바뀌도록
+    public void touch() {
+        this.updatedAt = LocalDateTime.now();
     }
 
     public void deletePost() {
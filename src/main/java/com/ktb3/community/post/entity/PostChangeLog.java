@@ -0,0 +1,53 @@
+package com.ktb3.community.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 변경 기록 (변경 동기화용 저널)
+ * - 게시물 작성/수정/삭제, 좋아요/댓글 수 변경 시 같은 트랜잭션에서 한 행씩 추가
+ * - change_id(AUTO_INCREMENT)가 변경 순서 - 클라이언트는 마지막으로 받은 change_id 이후만 요청
+ *   (번호는 커밋 순서와 다를 수 있음 - 빈 번호 처리는 PostChangeService 참고)
+ * - 보관 기간이 지난 행은 PostChangeService에서 주기적으로 삭제
+ */
+@Entity
+@Getter
+@Table(name = "post_change_log", indexes = {
+        // 보관 기간 지난 행 삭제
+        @Index(name = "idx_post_change_log_changed_at", columnList = "changed_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long id;
+
+    // 게시물과 연관관계 없이 ID만 (삭제된 게시물도 기록)
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 10)
+    private ChangeType changeType;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    public PostChangeLog(Long postId, ChangeType changeType) {
+        this.postId = postId;
+        this.changeType = changeType;
+        this.changedAt = LocalDateTime.now();
+    }
+
+    public enum ChangeType {
+        CREATED,   // 작성
+        UPDATED,   // 제목/내용/이미지 수정, 좋아요/댓글 수 변경
+        DELETED    // 삭제
+    }
+}
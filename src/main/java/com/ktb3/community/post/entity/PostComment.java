@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -18,14 +19,31 @@ import java.time.LocalDateTime;
  *  → 회원쪽에서는 항상 게시물댓글 조회할 필요없음
  * 2. Post : PostComment = 1:N (단방향)
  *  → Post에서 댓글 목록은 Repository 쿼리로 조회
+ * 3. 답글 - 부모 댓글은 ID(parent_id)만 보관 + 경로(path)
+ *  → path: 루트부터 자기 자신까지 댓글 ID를 19자리로 채워 이어 붙인 값 (ex. 루트 5의 답글 12 = "0..05" + "0..012")
+ *  → 고정 길이라 문자열 정렬 = 트리 순서(부모 다음에 자식들, 오래된 순) → 스레드 전체를 path 범위 스캔 한 번으로 조회
  */
 @Entity
 @Getter
-@Table(name = "post_comment")
+@Table(name = "post_comment", indexes = {
+        // 댓글 커서 페이징 (post_id, created_at, comment_id) 범위 스캔
+        @Index(name = "idx_post_comment_post_created", columnList = "post_id, created_at, comment_id"),
+        // 내가 쓴 댓글 키셋 페이징 (member_id, deleted_at, comment_id) 범위 스캔
+        @Index(name = "idx_post_comment_member", columnList = "member_id, deleted_at, comment_id"),
+        // 루트 댓글 커서 페이징 (post_id, depth, comment_id)
+        @Index(name = "idx_post_comment_post_depth", columnList = "post_id, depth, comment_id"),
+        // 스레드(하위 답글 전체) 범위 스캔 (post_id, path)
+        @Index(name = "idx_post_comment_post_path", columnList = "post_id, path")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 public class PostComment {
 
+    // path 한 단계(댓글 ID)의 자릿수 - Long 최대값 19자리
+    public static final int PATH_SEGMENT_LENGTH = 19;
+    // path 컬럼 길이 - 루트 포함 13단계 (depth 0 ~ 12)까지
+    public static final int PATH_MAX_LENGTH = 255;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name="comment_id")
@@ -36,9 +54,22 @@ public class PostComment {
     @CreatedDate
     @Column(name="created_at", updatable = false)
     private LocalDateTime createdAt;
+    // 내용이 바뀔 때마다 갱신 - ETag(조건부 조회) 버전으로 사용
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
     @Column(name="deleted_at")
     private LocalDateTime deletedAt;
 
+    // 답글 트리 - 루트 댓글은 parent_id = null, depth = 0
+    @Column(name = "parent_id")
+    private Long parentId;
+    @Column(nullable = false)
+    private int depth = 0;
+    // 저장 직후(ID 생성 후) 채움 - 도입 전 댓글은 PostCommentPathBackfill에서 채움
+    @Column(length = PATH_MAX_LENGTH)
+    private String path;
+
     // 단방향
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="member_id", nullable = false)
@@ -56,6 +87,36 @@ public class PostComment {
         this.comment = comment;
     }
 
+    /**
+     * 트리 위치 지정 - 저장 후(ID가 생긴 뒤) 호출, parent가 null이면 루트 댓글
+     */
+    public void placeUnder(PostComment parent) {
+        if (parent == null) {
+            this.parentId = null;
+            this.depth = 0;
+            this.path = pathSegment(this.id);
+            return;
+        }
+        this.parentId = parent.getId();
+        this.depth = parent.getDepth() + 1;
+        this.path = parent.getPath() + pathSegment(this.id);
+    }
+
+    // 댓글 ID → path 한 단계 (19자리 0 채움)
+    public static String pathSegment(Long commentId) {
+        return String.format("%0" + PATH_SEGMENT_LENGTH + "d", commentId);
+    }
+
+    /**
+     * path로 시작하는 모든 경로(자기 자신 + 하위 답글)보다 큰 값 - 마지막 단계의 댓글 ID + 1
+     * - 숫자끼리만 비교하므로 컬럼 collation과 무관 (utf8mb4_0900_ai_ci 등에서는 ':' 같은 기호가 숫자보다 앞에 정렬됨)
+     */
+    public static String subtreeUpperBound(String path) {
+        int lastSegmentStart = path.length() - PATH_SEGMENT_LENGTH;
+        long lastId = Long.parseLong(path.substring(lastSegmentStart));
+        return path.substring(0, lastSegmentStart) + pathSegment(lastId + 1);
+    }
+
     public void updateComment(String comment) {
         this.comment = comment;
     }
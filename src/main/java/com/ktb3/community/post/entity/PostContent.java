@@ -0,0 +1,46 @@
+package com.ktb3.community.post.entity;
+
+import com.ktb3.community.common.converter.CompressedTextConverter;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시물 본문 엔티티
+ * 관계 설계 : Post : PostContent = 1:1 (단방향, PK 공유)
+ *  → 본문(LONGTEXT)을 post 행에서 분리해서 좋아요/댓글 등 post를 읽는 쓰기 경로가 본문까지 로딩하지 않도록 함
+ *  → 상세/수정 화면, 게시물 수정에서만 PostContentRepository로 조회
+ */
+@Entity
+@Getter
+@Table(name = "post_content")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostContent {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    // 단방향 - post_id를 PK로 같이 사용
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "post_id")
+    private Post post;
+
+    // 긴 본문은 압축해서 저장 (CompressedTextConverter)
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private String content;
+
+    @Builder
+    public PostContent(Post post, String content) {
+        this.post = post;
+        this.content = content;
+    }
+
+    public void updateContent(String content) {
+        this.content = content;
+    }
+}
@@ -20,7 +20,10 @@ import java.time.LocalDateTime;
  *  →
  */
 @Entity
-@Table(name="post_like")
+@Table(name="post_like", indexes = {
+        // 내가 좋아요한 게시물 키셋 페이징 (member_id, 좋아요 시각, post_id) 범위 스캔
+        @Index(name = "idx_post_like_member_created", columnList = "member_id, created_at, post_id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
@@ -0,0 +1,108 @@
+package com.ktb3.community.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 목록용 요약 엔티티 (읽기 모델)
+ * - 목록에 필요한 컬럼(제목, 작성자 닉네임/프로필 key, 조회수, 좋아요/댓글 수)을 한 행에 미리 모아둠
+ *   → 목록 조회 시 post, member, file 조인 없이 post_summary 하나만 읽음
+ * - 원본은 post/member/file - 각 쓰기 경로(PostService, PostLikeService, PostCommentService,
+ *   MemberService/FileService → PostAuthorService)에서 같은 트랜잭션으로 함께 갱신
+ * - 카운트는 PostSummaryRepository에서 SQL로 직접 더하므로 변경된 컬럼만 UPDATE (@DynamicUpdate)
+ */
+@Entity
+@Getter
+@DynamicUpdate
+@Table(name = "post_summary", indexes = {
+        // 정렬 기준별 목록 키셋 페이징 (삭제 여부, 정렬 값, post_id) - 최신/오래된순은 PK 사용
+        @Index(name = "idx_post_summary_like_count", columnList = "deleted, like_count, post_id"),
+        @Index(name = "idx_post_summary_comment_count", columnList = "deleted, comment_count, post_id"),
+        @Index(name = "idx_post_summary_hit", columnList = "deleted, hit, post_id"),
+        // 내가 쓴 게시물 키셋 페이징 (작성자, 삭제 여부, post_id) - 닉네임/프로필 변경 시 작성자의 요약 행 갱신에도 사용
+        @Index(name = "idx_post_summary_author_post", columnList = "author_id, deleted, post_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostSummary implements Persistable<Long> {
+
+    // post와 같은 ID (직접 지정)
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+    @Column(nullable = false, length = 150)
+    private String title;
+
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+    @Column(name = "author_nickname", nullable = false, length = 20)
+    private String authorNickname;
+    @Column(name = "author_profile_key", length = 255)
+    private String authorProfileKey;
+
+    @Column(nullable = false)
+    private long hit = 0L;
+    @Column(name = "like_count", nullable = false)
+    private long likeCount = 0L;
+    @Column(name = "comment_count", nullable = false)
+    private long commentCount = 0L;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    // 목록에 보이는 값(제목, 작성자 정보)이 바뀔 때마다 갱신 - 목록 ETag 버전으로 사용
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    @Column(nullable = false)
+    private boolean deleted = false;
+
+    // ID를 직접 지정하므로 save() 시 merge(SELECT) 대신 바로 INSERT 하도록
+    @Transient
+    private boolean isNew = true;
+
+    /**
+     * 새 게시물의 요약 행 (post 저장 직후 - createdAt이 채워진 상태)
+     */
+    public static PostSummary of(Post post, String authorProfileKey) {
+        PostSummary summary = new PostSummary();
+        summary.postId = post.getId();
+        summary.title = post.getTitle();
+        summary.authorId = post.getMember().getId();
+        summary.authorNickname = post.getMember().getNickname();
+        summary.authorProfileKey = authorProfileKey;
+        summary.createdAt = post.getCreatedAt() != null ? post.getCreatedAt() : LocalDateTime.now();
+        summary.updatedAt = summary.createdAt;
+        return summary;
+    }
+
+    // 제목/내용/이미지 수정 - 제목을 다시 맞추고 버전 갱신
+    public void updateTitle(String title) {
+        this.title = title;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void markDeleted() {
+        this.deleted = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    @Override
+    public Long getId() {
+        return postId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
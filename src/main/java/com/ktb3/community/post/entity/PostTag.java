@@ -0,0 +1,48 @@
+package com.ktb3.community.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 게시물-태그 연결 엔티티
+ * - 태그별 피드는 이 테이블만 읽음: WHERE tag_id = ? AND post_id < ? ORDER BY post_id DESC LIMIT n
+ *   → (tag_id, post_id) 인덱스 안에서 필터 + 정렬 + 페이징이 끝나고, post는 조인하지 않음 (페이지 ID만 post_summary PK 조회)
+ * - 게시물 삭제 시 연결 행도 삭제하므로 삭제 여부 필터가 필요 없음
+ * - Member/Post 연관관계 없이 ID만 보관 (요약 테이블처럼 읽기 경로에서 엔티티를 불러오지 않음)
+ */
+@Entity
+@Getter
+@Table(name = "post_tag", indexes = {
+        // 태그별 피드 키셋 페이징 - 커버링 인덱스 (PK 컬럼 순서에 의존하지 않도록 명시)
+        @Index(name = "idx_post_tag_tag_post", columnList = "tag_id, post_id"),
+        // 게시물 수정/삭제 시 해당 게시물의 태그 조회
+        @Index(name = "idx_post_tag_post", columnList = "post_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostTag implements Persistable<PostTagId> {
+
+    @EmbeddedId
+    private PostTagId id;
+
+    // 키를 직접 지정하므로 save() 시 merge(SELECT) 대신 바로 INSERT 하도록
+    @Transient
+    private boolean isNew = true;
+
+    public PostTag(Long tagId, Long postId) {
+        this.id = new PostTagId(tagId, postId);
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,31 @@
+package com.ktb3.community.post.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * PostTag 복합키 (태그 ID, 게시물 ID)
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class PostTagId implements Serializable {
+
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Column(name = "post_id")
+    private Long postId;
+
+    public PostTagId(Long tagId, Long postId) {
+        this.tagId = tagId;
+        this.postId = postId;
+    }
+}
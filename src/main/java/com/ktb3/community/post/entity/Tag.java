@@ -0,0 +1,37 @@
+package com.ktb3.community.post.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 태그 엔티티
+ * - 이름은 소문자/공백 제거로 정규화해서 저장 (PostTagService)
+ * - post_count: 태그가 달린 (삭제되지 않은) 게시물 수 - 태그 목록/피드에서 COUNT(*) 없이 바로 응답
+ *   → 게시물 작성/수정/삭제 시 post_tag와 같은 트랜잭션에서 증감
+ */
+@Entity
+@Getter
+@Table(name = "tag", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_tag_name", columnNames = "name")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Tag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "tag_id")
+    private Long id;
+
+    @Column(nullable = false, length = 30)
+    private String name;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount = 0L;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,26 @@
+package com.ktb3.community.post.repository;
+
+import com.ktb3.community.post.entity.PostChangeLog;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PostChangeLogRepository extends JpaRepository<PostChangeLog, Long> {
+
+    // 워터마크 이후 변경 기록 (변경 순서대로)
+    List<PostChangeLog> findByIdGreaterThanOrderByIdAsc(Long changeId, Limit limit);
+
+    // 남아 있는 가장 오래된 변경 순서 (없으면 null)
+    @Query("SELECT MIN(c.id) FROM PostChangeLog c")
+    Long findMinChangeId();
+
+    // 기준 시각 이전 변경 기록 중 가장 최근 것 (보관 기간 정리, 첫 동기화 워터마크 - 없으면 null)
+    @Query("SELECT MAX(c.id) FROM PostChangeLog c WHERE c.changedAt < :before")
+    Long findMaxChangeIdBefore(@Param("before") LocalDateTime before);
+}
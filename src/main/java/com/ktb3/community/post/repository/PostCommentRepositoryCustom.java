@@ -0,0 +1,66 @@
+package com.ktb3.community.post.repository;
+
+import com.ktb3.community.post.dto.PostCommentDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PostCommentRepositoryCustom {
+
+    /**
+     * 게시물의 댓글 목록 조회 (페이징, 최신순)
+     * - 작성자 닉네임/프로필 이미지 key, 전체 댓글 수(post.comment_count)까지 한 번의 쿼리로 조회
+     * @param postId - 게시물 ID
+     * @param offset - 건너뛸 개수
+     * @param size - 조회할 개수
+     * @return - 댓글 목록
+     */
+    List<PostCommentDto.CommentRow> findCommentPage(Long postId, long offset, int size);
+
+    /**
+     * 게시물의 댓글 목록 조회 (커서 기반, 최신순)
+     * - (createdAt, commentId) 커서보다 이전 댓글부터 조회 → OFFSET 스캔, COUNT 쿼리 없음
+     * @param postId - 게시물 ID
+     * @param cursorCreatedAt - 이전 페이지 마지막 댓글의 작성일 (첫 페이지는 null)
+     * @param cursorId - 이전 페이지 마지막 댓글의 ID (첫 페이지는 null)
+     * @param size - 조회할 개수
+     * @return - 댓글 목록
+     */
+    List<PostCommentDto.CommentRow> findCommentsByCursor(Long postId, LocalDateTime cursorCreatedAt, Long cursorId, int size);
+
+    /**
+     * 커서 기반 댓글 목록 조회 - 프로필 이미지 조인 없이 (authorProfileKey = null)
+     * → 여러 조회의 프로필 이미지를 모아서 한 번에 조회할 때 사용
+     */
+    List<PostCommentDto.CommentRow> findCommentsByCursorWithoutProfile(Long postId, LocalDateTime cursorCreatedAt, Long cursorId, int size);
+
+    /**
+     * 회원이 작성한 댓글 목록 (최신순, 커서 기반) - (member_id, deleted_at, comment_id) 인덱스 범위 스캔, 조인 없음
+     * @param cursorId - 이전 페이지 마지막 댓글 ID (첫 페이지는 null)
+     */
+    List<PostCommentDto.MyCommentRow> findCommentsByMember(Long memberId, Long cursorId, int size);
+
+    /**
+     * 루트 댓글 ID (최신순, 커서 기반) - (post_id, depth, comment_id) 인덱스 범위 스캔
+     * @param cursorId - 이전 페이지 마지막 루트 댓글 ID (첫 페이지는 null)
+     */
+    List<Long> findRootCommentIds(Long postId, Long cursorId, int size);
+
+    /**
+     * path 범위의 댓글 전체 (path 순) - (post_id, path) 인덱스 범위 스캔 한 번, 프로필 이미지 조인 없음
+     * @param fromPath - 시작 path (포함)
+     * @param toPath - 끝 path (미포함)
+     * @param maxDepth - 이 깊이까지만
+     */
+    List<PostCommentDto.ThreadRow> findThreadRows(Long postId, String fromPath, String toPath, int maxDepth);
+
+    /**
+     * 댓글 목록의 버전만 조회 (페이징) - findCommentPage와 같은 조건/정렬, 작성자 PK 조인만 (ETag 비교용)
+     */
+    List<PostCommentDto.CommentVersion> findCommentPageVersions(Long postId, long offset, int size);
+
+    /**
+     * 댓글 목록의 버전만 조회 (커서 기반) - findCommentsByCursor와 같은 조건/정렬, 작성자 PK 조인만 (ETag 비교용)
+     */
+    List<PostCommentDto.CommentVersion> findCommentVersionsByCursor(Long postId, LocalDateTime cursorCreatedAt, Long cursorId, int size);
+}
@@ -0,0 +1,229 @@
+package com.ktb3.community.post.repository;
+
+import com.ktb3.community.file.entity.QFile;
+import com.ktb3.community.member.entity.QMember;
+import com.ktb3.community.post.dto.PostCommentDto;
+import com.ktb3.community.post.entity.QPost;
+import com.ktb3.community.post.entity.QPostComment;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class PostCommentRepositoryImpl implements PostCommentRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<PostCommentDto.CommentRow> findCommentPage(Long postId, long offset, int size) {
+        QPostComment comment = QPostComment.postComment;
+        QMember member = QMember.member;
+        QFile profile = QFile.file;
+        QPost post = QPost.post;
+
+        return queryFactory
+                .select(Projections.constructor(PostCommentDto.CommentRow.class,
+                        comment.id,
+                        comment.post.id,
+                        comment.comment,
+                        member.id,
+                        member.nickname,
+                        profile.filePath,
+                        comment.createdAt,
+                        // 전체 댓글 수 - COUNT 쿼리 대신 post.comment_count (PK 조회)
+                        JPAExpressions.select(post.commentCount)
+                                .from(post)
+                                .where(post.id.eq(postId))))
+                .from(comment)
+                .join(comment.member, member)
+                .leftJoin(profile).on(PostRepositoryImpl.isCurrentProfile(profile, member))  // 프로필 이미지 (없으면 null)
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.deletedAt.isNull()
+                )
+                .orderBy(comment.createdAt.desc(), comment.id.desc())
+                .offset(offset)
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<PostCommentDto.CommentRow> findCommentsByCursor(Long postId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        QPostComment comment = QPostComment.postComment;
+        QMember member = QMember.member;
+        QFile profile = QFile.file;
+
+        return queryFactory
+                .select(Projections.constructor(PostCommentDto.CommentRow.class,
+                        comment.id,
+                        comment.post.id,
+                        comment.comment,
+                        member.id,
+                        member.nickname,
+                        profile.filePath,
+                        comment.createdAt))  // 커서 페이징은 전체 댓글 수 필요 없음
+                .from(comment)
+                .join(comment.member, member)
+                .leftJoin(profile).on(PostRepositoryImpl.isCurrentProfile(profile, member))  // 프로필 이미지 (없으면 null)
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.deletedAt.isNull(),
+                        beforeCursor(comment, cursorCreatedAt, cursorId)
+                )
+                .orderBy(comment.createdAt.desc(), comment.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<PostCommentDto.CommentRow> findCommentsByCursorWithoutProfile(Long postId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        QPostComment comment = QPostComment.postComment;
+        QMember member = QMember.member;
+
+        return queryFactory
+                .select(Projections.constructor(PostCommentDto.CommentRow.class,
+                        comment.id,
+                        comment.post.id,
+                        comment.comment,
+                        member.id,
+                        member.nickname,
+                        comment.createdAt))
+                .from(comment)
+                .join(comment.member, member)
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.deletedAt.isNull(),
+                        beforeCursor(comment, cursorCreatedAt, cursorId)
+                )
+                .orderBy(comment.createdAt.desc(), comment.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<PostCommentDto.MyCommentRow> findCommentsByMember(Long memberId, Long cursorId, int size) {
+        QPostComment comment = QPostComment.postComment;
+
+        return queryFactory
+                .select(Projections.constructor(PostCommentDto.MyCommentRow.class,
+                        comment.id,
+                        comment.post.id,
+                        comment.comment,
+                        comment.createdAt))
+                .from(comment)
+                .where(
+                        comment.member.id.eq(memberId),
+                        comment.deletedAt.isNull(),
+                        cursorId == null ? null : comment.id.lt(cursorId)
+                )
+                .orderBy(comment.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findRootCommentIds(Long postId, Long cursorId, int size) {
+        QPostComment comment = QPostComment.postComment;
+
+        return queryFactory
+                .select(comment.id)
+                .from(comment)
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.depth.eq(0),
+                        comment.deletedAt.isNull(),
+                        cursorId == null ? null : comment.id.lt(cursorId)
+                )
+                .orderBy(comment.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<PostCommentDto.ThreadRow> findThreadRows(Long postId, String fromPath, String toPath, int maxDepth) {
+        QPostComment comment = QPostComment.postComment;
+        QMember member = QMember.member;
+
+        return queryFactory
+                .select(Projections.constructor(PostCommentDto.ThreadRow.class,
+                        comment.id,
+                        comment.parentId,
+                        comment.depth,
+                        comment.path,
+                        comment.comment,
+                        member.id,
+                        member.nickname,
+                        comment.createdAt))
+                .from(comment)
+                .join(comment.member, member)
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.path.goe(fromPath),
+                        comment.path.lt(toPath),
+                        comment.depth.loe(maxDepth),
+                        comment.deletedAt.isNull()
+                )
+                .orderBy(comment.path.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<PostCommentDto.CommentVersion> findCommentPageVersions(Long postId, long offset, int size) {
+        QPostComment comment = QPostComment.postComment;
+        QMember member = QMember.member;
+
+        return queryFactory
+                .select(Projections.constructor(PostCommentDto.CommentVersion.class,
+                        comment.id,
+                        comment.updatedAt,
+                        member.updatedAt))
+                .from(comment)
+                .join(comment.member, member)  // 작성자 카드(닉네임/프로필 이미지) 버전 - PK 조인
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.deletedAt.isNull()
+                )
+                .orderBy(comment.createdAt.desc(), comment.id.desc())
+                .offset(offset)
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public List<PostCommentDto.CommentVersion> findCommentVersionsByCursor(Long postId, LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        QPostComment comment = QPostComment.postComment;
+        QMember member = QMember.member;
+
+        return queryFactory
+                .select(Projections.constructor(PostCommentDto.CommentVersion.class,
+                        comment.id,
+                        comment.updatedAt,
+                        member.updatedAt))
+                .from(comment)
+                .join(comment.member, member)  // 작성자 카드(닉네임/프로필 이미지) 버전 - PK 조인
+                .where(
+                        comment.post.id.eq(postId),
+                        comment.deletedAt.isNull(),
+                        beforeCursor(comment, cursorCreatedAt, cursorId)
+                )
+                .orderBy(comment.createdAt.desc(), comment.id.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    // (createdAt, id) < (cursorCreatedAt, cursorId) - 첫 페이지면 조건 없음
+    private BooleanExpression beforeCursor(QPostComment comment, LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return comment.createdAt.lt(cursorCreatedAt)
+                .or(comment.createdAt.eq(cursorCreatedAt).and(comment.id.lt(cursorId)));
+    }
+}
@@ -0,0 +1,22 @@
+package com.ktb3.community.post.repository;
+
+import com.ktb3.community.post.entity.PostContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PostContentRepository extends JpaRepository<PostContent, Long> {
+
+    // 본문만 조회 (엔티티 로딩X)
+    @Query("SELECT c.content FROM PostContent c WHERE c.postId = :postId")
+    Optional<String> findContentByPostId(@Param("postId") Long postId);
+
+    // 여러 게시물 본문 조회 - 일괄 조회용
+    List<PostContent> findByPostIdIn(Collection<Long> postIds);
+}
@@ -1,13 +1,17 @@
 package com.ktb3.community.post.repository;
 
+import com.ktb3.community.post.dto.PostLikeDto;
 import com.ktb3.community.post.entity.PostLike;
 import com.ktb3.community.post.entity.PostLikeId;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId> {
 
@@ -15,16 +19,46 @@ public interface PostLikeRepository extends JpaRepository<PostLike, PostLikeId>
 
     void deleteById(PostLikeId id);
 
-    long countByPostId(Long postId);
+    // 좋아요 취소 - 실제로 삭제된 행 수 반환 (동시에 취소하면 한 요청만 1)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PostLike pl WHERE pl.id.memberId = :memberId AND pl.id.postId = :postId")
+    int deleteLike(@Param("memberId") Long memberId, @Param("postId") Long postId);
 
-    // 여러 게시물의 좋아요 개수 조회 (N+1 방지)
-    @Query("SELECT pl.post.id as postId, COUNT(pl) as likeCount " +
-            "FROM PostLike pl " +
-            "WHERE pl.post.id IN :postIds " +
-            "GROUP BY pl.post.id")
-    List<Map<String, Object>> countByPostIdIn(@Param("postIds") List<Long> postIds);
+    // 좋아요 생성 - 이미 있으면 무시, 실제로 추가된 행 수 반환 (동시에 눌러도 한 요청만 1)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO post_like (member_id, post_id, created_at) " +
+            "VALUES (:memberId, :postId, :now)",
+            nativeQuery = true)
+    int insertLike(@Param("memberId") Long memberId,
+                   @Param("postId") Long postId,
+                   @Param("now") LocalDateTime now);
 
     // 특정 회원이 특정 게시물에 좋아요 눌렀나 확인 - 게시물 상세용
     boolean existsByMember_IdAndPost_Id(Long memberId, Long postId);
 
+    // 특정 회원이 좋아요 누른 게시물 ID (주어진 게시물 중에서) - 일괄 조회용
+    @Query("SELECT pl.post.id FROM PostLike pl " +
+            "WHERE pl.member.id = :memberId " +
+            "AND pl.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("memberId") Long memberId, @Param("postIds") Collection<Long> postIds);
+
+    // 회원이 좋아요한 게시물 (최근 좋아요순) 첫 페이지 - (member_id, created_at, post_id) 인덱스만 읽음
+    @Query("SELECT new com.ktb3.community.post.dto.PostLikeDto$LikedPostRow(pl.id.postId, pl.createdAt) " +
+            "FROM PostLike pl " +
+            "WHERE pl.id.memberId = :memberId " +
+            "ORDER BY pl.createdAt DESC, pl.id.postId DESC")
+    List<PostLikeDto.LikedPostRow> findLikedPosts(@Param("memberId") Long memberId, Limit limit);
+
+    // 회원이 좋아요한 게시물 다음 페이지 - (좋아요 시각, 게시물 ID) 커서 이후
+    @Query("SELECT new com.ktb3.community.post.dto.PostLikeDto$LikedPostRow(pl.id.postId, pl.createdAt) " +
+            "FROM PostLike pl " +
+            "WHERE pl.id.memberId = :memberId " +
+            "AND (pl.createdAt < :cursorLikedAt " +
+            "OR (pl.createdAt = :cursorLikedAt AND pl.id.postId < :cursorPostId)) " +
+            "ORDER BY pl.createdAt DESC, pl.id.postId DESC")
+    List<PostLikeDto.LikedPostRow> findLikedPostsBefore(@Param("memberId") Long memberId,
+                                                        @Param("cursorLikedAt") LocalDateTime cursorLikedAt,
+                                                        @Param("cursorPostId") Long cursorPostId,
+                                                        Limit limit);
+
 }
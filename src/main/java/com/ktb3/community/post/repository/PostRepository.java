@@ -4,10 +4,12 @@ import com.ktb3.community.post.entity.Post;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -24,6 +26,30 @@ public interface PostRepository extends JpaRepository<Post,Long>, PostRepository
             "AND p.deletedAt IS NULL")
     Optional<Post> findByIdWithMember(@Param("postId") Long postId);
 
+    // 여러 게시물 조회 (Member JOIN FETCH, 삭제X) - 일괄 조회용
+    @Query("SELECT p FROM Post p " +
+            "JOIN FETCH p.member " +
+            "WHERE p.id IN :postIds " +
+            "AND p.deletedAt IS NULL")
+    List<Post> findAllByIdInWithMember(@Param("postIds") Collection<Long> postIds);
+
+    // 좋아요 수 증감 - 동시 요청에도 누락되지 않도록 DB에서 원자적으로 계산
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + :delta " +
+            "WHERE p.id = :postId " +
+            "AND p.likeCount + :delta >= 0")
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // 댓글 수 증감
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta " +
+            "WHERE p.id = :postId " +
+            "AND p.commentCount + :delta >= 0")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // 현재 좋아요 수 (영속성 컨텍스트가 아닌 DB 값)
+    @Query("SELECT p.likeCount FROM Post p WHERE p.id = :postId")
+    long findLikeCountById(@Param("postId") Long postId);
 
 
 }
@@ -1,16 +1,44 @@
 package com.ktb3.community.post.repository;
 
-import com.ktb3.community.post.entity.Post;
+import com.ktb3.community.post.dto.PostDto;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 public interface PostRepositoryCustom {
 
     /**
-     * 커서 기반 게시물 목록 조회
-     * @param cursor - 이전 페이지의 마지막 게시물 ID
-     * @param size - 조회할 개수
-     * @return - 게시물 목록 (Member fetch join 포함)
+     * 커서 기반 게시물 목록 조회 - post_summary(목록용 요약 테이블)에서 조인 없이 조회
+     * @param sort - 정렬 기준
+     * @param cursor - 이전 페이지 마지막 게시물의 [정렬 값, 게시물 ID] (첫 페이지는 null)
+     * @param size - 조회할 개수 (hasNext 판단용 +1 포함해서 전달)
+     * @return - 게시물 목록 (id, 제목, 조회수, 좋아요/댓글 수, 작성일, 작성자 id/닉네임)
      */
-    List<Post> findPostsByCursor(Long cursor, int size);
+    List<PostDto.PostFeedRow> findPostFeedByCursor(PostDto.SortType sort, long[] cursor, int size);
+
+    /**
+     * 게시물 버전 조회 (PK 조회, ETag 비교용)
+     */
+    Optional<PostDto.PostVersion> findPostVersion(Long postId);
+
+    /**
+     * 게시물 ID 목록으로 목록용 컬럼 조회 (검색 결과 등 - 순서는 보장하지 않음)
+     * @param postIds - 게시물 ID 목록
+     * @return - 삭제되지 않은 게시물 목록
+     */
+    List<PostDto.PostFeedRow> findPostFeedByIds(Collection<Long> postIds);
+
+    /**
+     * 작성자의 게시물 목록 (최신순, 커서 기반) - post_summary (author_id, deleted, post_id) 인덱스 범위 스캔
+     * @param cursorPostId - 이전 페이지 마지막 게시물 ID (첫 페이지는 null)
+     */
+    List<PostDto.PostFeedRow> findPostFeedByAuthor(Long authorId, Long cursorPostId, int size);
+
+    /**
+     * 조회수 일괄 반영 (post, post_summary 각각 UPDATE ... SET hit = hit + ? 배치)
+     * @param hitDeltas - 게시물 ID별 증가시킬 조회수
+     */
+    void increaseHits(Map<Long, Long> hitDeltas);
 }
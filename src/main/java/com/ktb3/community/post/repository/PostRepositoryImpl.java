@@ -1,32 +1,193 @@
 package com.ktb3.community.post.repository;
 
-import com.ktb3.community.post.entity.Post;
+import com.ktb3.community.file.entity.QFile;
+import com.ktb3.community.member.entity.QMember;
+import com.ktb3.community.post.dto.PostDto;
 import com.ktb3.community.post.entity.QPost;
+import com.ktb3.community.post.entity.QPostSummary;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
 
 @Repository
 @RequiredArgsConstructor
 public class PostRepositoryImpl implements PostRepositoryCustom{
 
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
-    public List<Post> findPostsByCursor(Long cursor, int size) {
+    public List<PostDto.PostFeedRow> findPostFeedByCursor(PostDto.SortType sort, long[] cursor, int size) {
+        QPostSummary summary = QPostSummary.postSummary;
+
+        // post_summary 한 테이블만 읽음 - 작성자 닉네임/프로필 key까지 미리 들어 있어서 조인 없음
+        return queryFactory
+                .select(feedRow(summary))
+                .from(summary)
+                .where(
+                        summary.deleted.isFalse(),  // 삭제되지 않은 게시물
+                        afterCursor(summary, sort, cursor) // null이면 조건 없음 (첫 페이지)
+                )
+                .orderBy(orderOf(summary, sort))
+                .limit(size)
+                .fetch();
+    }
+
+    @Override
+    public Optional<PostDto.PostVersion> findPostVersion(Long postId) {
+        QPost post = QPost.post;
+        QMember member = QMember.member;
+
+        return Optional.ofNullable(queryFactory
+                .select(postVersion(post, member))
+                .from(post)
+                .join(post.member, member)  // 작성자 카드(닉네임/프로필 이미지) 버전 - PK 조인
+                .where(
+                        post.id.eq(postId),
+                        post.deletedAt.isNull()
+                )
+                .fetchOne());
+    }
+
+    private ConstructorExpression<PostDto.PostVersion> postVersion(QPost post, QMember member) {
+        return Projections.constructor(PostDto.PostVersion.class,
+                post.id,
+                post.updatedAt,
+                post.hit,
+                post.likeCount,
+                post.commentCount,
+                member.updatedAt);
+    }
+
+    // 정렬 기준별 정렬 값 컬럼 (최신/오래된순은 post_id 자체)
+    private NumberPath<Long> sortKeyOf(QPostSummary summary, PostDto.SortType sort) {
+        return switch (sort) {
+            case LATEST, OLDEST -> summary.postId;
+            case MOST_LIKED -> summary.likeCount;
+            case MOST_COMMENTED -> summary.commentCount;
+            case MOST_VIEWED -> summary.hit;
+        };
+    }
+
+    // (정렬 값, post_id) 가 커서보다 뒤인 게시물
+    private BooleanExpression afterCursor(QPostSummary summary, PostDto.SortType sort, long[] cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        long sortValue = cursor[0];
+        long postId = cursor[1];
+
+        return switch (sort) {
+            case LATEST -> summary.postId.lt(postId);
+            case OLDEST -> summary.postId.gt(postId);
+            default -> {
+                NumberPath<Long> key = sortKeyOf(summary, sort);
+                yield key.lt(sortValue).or(key.eq(sortValue).and(summary.postId.lt(postId)));
+            }
+        };
+    }
+
+    private OrderSpecifier<?>[] orderOf(QPostSummary summary, PostDto.SortType sort) {
+        return switch (sort) {
+            case LATEST -> new OrderSpecifier<?>[]{summary.postId.desc()};
+            case OLDEST -> new OrderSpecifier<?>[]{summary.postId.asc()};
+            default -> new OrderSpecifier<?>[]{sortKeyOf(summary, sort).desc(), summary.postId.desc()};
+        };
+    }
+
+    @Override
+    public List<PostDto.PostFeedRow> findPostFeedByIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        QPostSummary summary = QPostSummary.postSummary;
+
         return queryFactory
-                .selectFrom(QPost.post)
-                .join(QPost.post.member).fetchJoin()  // Member JOIN FETCH
+                .select(feedRow(summary))
+                .from(summary)
                 .where(
-                        QPost.post.deletedAt.isNull(),  // 삭제되지 않은 게시물
-                        cursor != null ? QPost.post.id.lt(cursor) : null // null이면 조건 없음 (첫 페이지)
+                        summary.postId.in(postIds),
+                        summary.deleted.isFalse()
                 )
-                .orderBy(QPost.post.id.desc())  // ID 내림차순
-                .limit(size + 1)  // size+1 조회 (hasNext 판단용)
                 .fetch();
     }
 
+    @Override
+    public List<PostDto.PostFeedRow> findPostFeedByAuthor(Long authorId, Long cursorPostId, int size) {
+        QPostSummary summary = QPostSummary.postSummary;
+
+        return queryFactory
+                .select(feedRow(summary))
+                .from(summary)
+                .where(
+                        summary.authorId.eq(authorId),
+                        summary.deleted.isFalse(),
+                        cursorPostId == null ? null : summary.postId.lt(cursorPostId)
+                )
+                .orderBy(summary.postId.desc())
+                .limit(size)
+                .fetch();
+    }
+
+    private ConstructorExpression<PostDto.PostFeedRow> feedRow(QPostSummary summary) {
+        return Projections.constructor(PostDto.PostFeedRow.class,
+                summary.postId,
+                summary.title,
+                summary.hit,
+                summary.likeCount,
+                summary.commentCount,
+                summary.createdAt,
+                summary.authorId,
+                summary.authorNickname,
+                summary.authorProfileKey);
+    }
+
+    /**
+     * 회원의 현재 프로필 이미지 조인 조건 (type='profile', 삭제X)
+     * - 프로필이 혹시 여러 개 남아 있어도 행이 늘어나지 않도록 가장 최근 것 하나만
+     */
+    static BooleanExpression isCurrentProfile(QFile profile, QMember member) {
+        QFile latest = new QFile("latestProfile");
+        return profile.id.eq(
+                JPAExpressions.select(latest.id.max())
+                        .from(latest)
+                        .where(
+                                latest.member.eq(member),
+                                latest.type.eq("profile"),
+                                latest.deletedAt.isNull()
+                        ));
+    }
+
+    @Override
+    @Transactional
+    public void increaseHits(Map<Long, Long> hitDeltas) {
+        if (hitDeltas.isEmpty()) {
+            return;
+        }
+
+        // post_id 순서로 정렬해서 갱신 - 여러 서버가 동시에 반영해도 락 순서가 같아 데드락 방지
+        List<Object[]> batchArgs = new TreeMap<>(hitDeltas).entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate("UPDATE post SET hit = hit + ? WHERE post_id = ?", batchArgs);
+        jdbcTemplate.batchUpdate("UPDATE post_summary SET hit = hit + ? WHERE post_id = ?", batchArgs);
+    }
+
 
 }
@@ -0,0 +1,49 @@
+package com.ktb3.community.post.repository;
+
+import com.ktb3.community.post.entity.PostSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PostSummaryRepository extends JpaRepository<PostSummary, Long> {
+
+    // 좋아요 수 증감 - post.like_count와 같은 트랜잭션에서 같이 반영
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PostSummary s SET s.likeCount = s.likeCount + :delta " +
+            "WHERE s.postId = :postId " +
+            "AND s.likeCount + :delta >= 0")
+    int addLikeCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // 댓글 수 증감
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PostSummary s SET s.commentCount = s.commentCount + :delta " +
+            "WHERE s.postId = :postId " +
+            "AND s.commentCount + :delta >= 0")
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    // 작성자의 게시물 ID (삭제되지 않은 것) - (author_id, deleted, post_id) 인덱스만 읽음
+    @Query("SELECT s.postId FROM PostSummary s WHERE s.authorId = :memberId AND s.deleted = false")
+    List<Long> findPostIdsByAuthorId(@Param("memberId") Long memberId);
+
+    // 작성자 닉네임 변경 - 작성한 모든 게시물의 요약 행
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PostSummary s SET s.authorNickname = :nickname, s.updatedAt = :now " +
+            "WHERE s.authorId = :memberId")
+    int updateAuthorNickname(@Param("memberId") Long memberId,
+                             @Param("nickname") String nickname,
+                             @Param("now") LocalDateTime now);
+
+    // 작성자 프로필 이미지 변경 (삭제 시 null)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PostSummary s SET s.authorProfileKey = :profileKey, s.updatedAt = :now " +
+            "WHERE s.authorId = :memberId")
+    int updateAuthorProfileKey(@Param("memberId") Long memberId,
+                               @Param("profileKey") String profileKey,
+                               @Param("now") LocalDateTime now);
+}
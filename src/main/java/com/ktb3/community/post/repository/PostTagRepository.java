@@ -0,0 +1,42 @@
+package com.ktb3.community.post.repository;
+
+import com.ktb3.community.post.entity.PostTag;
+import com.ktb3.community.post.entity.PostTagId;
+import com.ktb3.community.post.entity.Tag;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostTagRepository extends JpaRepository<PostTag, PostTagId> {
+
+    // 태그별 피드 첫 페이지 - (tag_id, post_id) 인덱스만 읽음
+    @Query("SELECT pt.id.postId FROM PostTag pt " +
+            "WHERE pt.id.tagId = :tagId " +
+            "ORDER BY pt.id.postId DESC")
+    List<Long> findPostIdsByTag(@Param("tagId") Long tagId, Limit limit);
+
+    // 태그별 피드 다음 페이지 - 마지막 게시물 ID 이후
+    @Query("SELECT pt.id.postId FROM PostTag pt " +
+            "WHERE pt.id.tagId = :tagId AND pt.id.postId < :cursorPostId " +
+            "ORDER BY pt.id.postId DESC")
+    List<Long> findPostIdsByTagBefore(@Param("tagId") Long tagId,
+                                      @Param("cursorPostId") Long cursorPostId,
+                                      Limit limit);
+
+    // 게시물에 달린 태그
+    @Query("SELECT t FROM PostTag pt JOIN Tag t ON t.id = pt.id.tagId " +
+            "WHERE pt.id.postId = :postId " +
+            "ORDER BY t.name ASC")
+    List<Tag> findTagsByPostId(@Param("postId") Long postId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM PostTag pt WHERE pt.id.postId = :postId AND pt.id.tagId IN :tagIds")
+    int deleteByPostIdAndTagIds(@Param("postId") Long postId, @Param("tagIds") Collection<Long> tagIds);
+}
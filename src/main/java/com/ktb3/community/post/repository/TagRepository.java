@@ -0,0 +1,34 @@
+package com.ktb3.community.post.repository;
+
+import com.ktb3.community.post.entity.Tag;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TagRepository extends JpaRepository<Tag, Long> {
+
+    Optional<Tag> findByName(String name);
+
+    List<Tag> findByNameIn(Collection<String> names);
+
+    // 없는 태그만 추가 - 같은 태그를 동시에 처음 쓰는 경우에도 유니크 키 충돌로 트랜잭션이 실패하지 않도록
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO tag (name, post_count, created_at) VALUES (:name, 0, :now)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name, @Param("now") LocalDateTime now);
+
+    // 태그별 게시물 수 증감 - post_tag 추가/삭제와 같은 트랜잭션에서 반영
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Tag t SET t.postCount = t.postCount + :delta " +
+            "WHERE t.id IN :tagIds " +
+            "AND t.postCount + :delta >= 0")
+    int addPostCount(@Param("tagIds") Collection<Long> tagIds, @Param("delta") long delta);
+}
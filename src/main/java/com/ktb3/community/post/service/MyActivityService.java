@@ -0,0 +1,138 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.common.util.CursorUtil;
+import com.ktb3.community.post.dto.PostCommentDto;
+import com.ktb3.community.post.dto.PostDto;
+import com.ktb3.community.post.dto.PostLikeDto;
+import com.ktb3.community.post.repository.PostCommentRepository;
+import com.ktb3.community.post.repository.PostLikeRepository;
+import com.ktb3.community.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 내 활동 - 내가 쓴 게시물 / 댓글 / 좋아요한 게시물
+ * - 모두 회원 기준 인덱스를 커서부터 size+1개만 범위 스캔 → 활동 기록이 길어져도 비용은 페이지 크기만큼
+ * - 카운트/작성자 정보는 PostService와 같은 요약 테이블(post_summary) IN 조회 한 번으로
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class MyActivityService {
+
+    private final PostRepository postRepository;
+    private final PostCommentRepository commentRepository;
+    private final PostLikeRepository likeRepository;
+    private final PostService postService;
+
+    /**
+     * 내가 쓴 게시물 (최신순) - 커서는 최신순 목록과 같은 형식
+     */
+    public PostDto.PostListPageResponse getMyPosts(Long memberId, String cursor, int size) {
+
+        // 1. 커서 해석 → 마지막 게시물 ID
+        long[] decodedCursor = PostDto.SortType.LATEST.parseCursor(cursor);
+        Long cursorPostId = decodedCursor == null ? null : decodedCursor[1];
+
+        // 2. 요약 테이블 (author_id, deleted, post_id) 범위 스캔 (다음 페이지 확인용 +1)
+        List<PostDto.PostFeedRow> rows = postRepository.findPostFeedByAuthor(memberId, cursorPostId, size + 1);
+
+        // 3. DTO 변환 + 페이징 형태로 응답
+        return PostDto.PostListPageResponse.of(rows, size, PostDto.SortType.LATEST, postService::toListResponse);
+    }
+
+    /**
+     * 내가 쓴 댓글 (최신순) - 게시물 제목은 페이지의 게시물만 모아서 한 번에 조회
+     */
+    public PostCommentDto.MyCommentPageResponse getMyComments(Long memberId, String cursor, int size) {
+
+        // 1. 커서 해석 → 마지막 댓글 ID
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                cursorId = Long.parseLong(CursorUtil.decode(cursor, 1)[0]);
+            } catch (NumberFormatException e) {
+                throw CursorUtil.invalidCursor();
+            }
+        }
+
+        // 2. 댓글 조회 - (member_id, deleted_at, comment_id) 범위 스캔 (다음 페이지 확인용 +1)
+        List<PostCommentDto.MyCommentRow> rows = commentRepository.findCommentsByMember(memberId, cursorId, size + 1);
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        // 3. 게시물 제목 - 요약 테이블 IN 조회 한 번
+        Map<Long, String> titles = postRepository.findPostFeedByIds(rows.stream()
+                        .map(PostCommentDto.MyCommentRow::postId)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(PostDto.PostFeedRow::postId, PostDto.PostFeedRow::title));
+
+        // 4. 응답
+        List<PostCommentDto.MyCommentResponse> comments = rows.stream()
+                .map(row -> PostCommentDto.MyCommentResponse.from(row, titles.get(row.postId())))
+                .toList();
+
+        return PostCommentDto.MyCommentPageResponse.builder()
+                .comments(comments)
+                .nextCursor(rows.isEmpty() ? null : CursorUtil.encode(rows.get(rows.size() - 1).commentId()))
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 내가 좋아요한 게시물 (최근 좋아요순)
+     * - 좋아요 후 삭제된 게시물은 응답에서 빠지므로 페이지가 size보다 작을 수 있음 (커서는 좋아요 기준이라 이어서 조회 가능)
+     */
+    public PostDto.PostListPageResponse getMyLikes(Long memberId, String cursor, int size) {
+
+        // 1. 좋아요 조회 - (member_id, created_at, post_id) 범위 스캔 (다음 페이지 확인용 +1)
+        Limit limit = Limit.of(size + 1);
+        List<PostLikeDto.LikedPostRow> likes;
+        if (cursor == null || cursor.isBlank()) {
+            likes = likeRepository.findLikedPosts(memberId, limit);
+        } else {
+            String[] values = CursorUtil.decode(cursor, 2);
+            try {
+                likes = likeRepository.findLikedPostsBefore(memberId,
+                        LocalDateTime.parse(values[0]), Long.parseLong(values[1]), limit);
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw CursorUtil.invalidCursor();
+            }
+        }
+
+        boolean hasNext = likes.size() > size;
+        if (hasNext) {
+            likes = likes.subList(0, size);
+        }
+
+        // 2. 게시물 목록 - 좋아요한 순서대로 (요약 테이블 IN 조회 한 번)
+        List<PostDto.PostListResponse> posts = postService.getPostListByIds(likes.stream()
+                .map(PostLikeDto.LikedPostRow::postId)
+                .toList());
+
+        // 3. nextCursor: 마지막 좋아요의 (좋아요 시각, 게시물 ID)
+        String nextCursor = null;
+        if (!likes.isEmpty()) {
+            PostLikeDto.LikedPostRow last = likes.get(likes.size() - 1);
+            nextCursor = CursorUtil.encode(last.likedAt(), last.postId());
+        }
+
+        return PostDto.PostListPageResponse.builder()
+                .posts(posts)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
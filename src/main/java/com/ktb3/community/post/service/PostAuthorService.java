@@ -0,0 +1,60 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.post.entity.PostChangeLog;
+import com.ktb3.community.post.repository.PostChangeLogRepository;
+import com.ktb3.community.post.repository.PostSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 작성자 정보(닉네임, 프로필 이미지) 변경을 게시물 읽기 모델에 반영
+ * - 작성자 정보를 복사해 둔 곳: 목록 요약(post_summary), 상세 캐시, 목록 페이지 캐시, 변경 동기화 기록
+ *   → 호출한 쪽(MemberService, FileService) 트랜잭션에서 요약 행 갱신 + 게시물별 변경 기록, 캐시는 커밋 후 제거
+ * - 상세/댓글 ETag는 작성자 버전(member.updated_at)으로 바뀜 (Member 참고)
+ */
+@Service
+@RequiredArgsConstructor
+public class PostAuthorService {
+
+    private final PostSummaryRepository summaryRepository;
+    private final PostChangeLogRepository changeLogRepository;
+    private final PostDetailCache detailCache;
+    private final PostFeedCache feedCache;
+
+    /**
+     * 닉네임 변경
+     */
+    public void updateNickname(Long memberId, String nickname) {
+        summaryRepository.updateAuthorNickname(memberId, nickname, LocalDateTime.now());
+        propagate(memberId);
+    }
+
+    /**
+     * 프로필 이미지 변경 (삭제 시 null)
+     */
+    public void updateProfileKey(Long memberId, String profileKey) {
+        summaryRepository.updateAuthorProfileKey(memberId, profileKey, LocalDateTime.now());
+        propagate(memberId);
+    }
+
+    private void propagate(Long memberId) {
+
+        // 1. 작성자의 게시물 - 없으면 반영할 곳 없음
+        List<Long> postIds = summaryRepository.findPostIdsByAuthorId(memberId);
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        // 2. 변경 동기화 클라이언트가 새 작성자 정보를 받도록 게시물마다 변경 기록
+        changeLogRepository.saveAll(postIds.stream()
+                .map(postId -> new PostChangeLog(postId, PostChangeLog.ChangeType.UPDATED))
+                .toList());
+
+        // 3. 작성자 정보가 들어 있는 캐시 제거 (커밋 후)
+        detailCache.evictAll(postIds);
+        feedCache.evictPagesContainingAny(postIds);
+    }
+}
@@ -0,0 +1,202 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.common.exception.BusinessException;
+import com.ktb3.community.common.util.CursorUtil;
+import com.ktb3.community.file.service.FileService;
+import com.ktb3.community.post.dto.PostDto;
+import com.ktb3.community.post.entity.PostChangeLog;
+import com.ktb3.community.post.repository.PostChangeLogRepository;
+import com.ktb3.community.post.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물 변경 동기화
+ * - 쓰기 경로(PostService, PostLikeService, PostCommentService)에서 record()로 변경 기록 추가
+ * - 클라이언트는 since 토큰(마지막으로 받은 변경 순서) 이후 바뀐 게시물 ID + 현재 요약만 받아서 로컬 캐시 갱신
+ * - 조회수는 계속 바뀌므로 기록하지 않음 (다른 변경과 함께 현재 값이 내려감)
+ * - 보관 기간(retention-days)이 지난 기록은 주기적으로 삭제 - 그보다 오래된 토큰은 410 (전체 다시 받기)
+ * 변경 순서(change_id)는 INSERT 시점에 정해지지만 커밋 순서는 다를 수 있음
+ * → 빈 번호(아직 커밋 안 된 트랜잭션)를 만나면 그 앞까지만 응답하고 토큰을 넘기지 않음
+ *   빈 번호 다음 기록이 gap-timeout-seconds 보다 오래됐으면 롤백된 번호로 보고 건너뜀
+ *   (쓰기 트랜잭션은 이 시간보다 짧아야 함, auto_increment_increment = 1 전제)
+ */
+@Slf4j
+@Service
+public class PostChangeService {
+
+    private static final int PURGE_BATCH_SIZE = 10000;
+
+    private final PostChangeLogRepository changeLogRepository;
+    private final PostRepository postRepository;
+    private final PostViewCounter viewCounter;
+    private final FileService fileService;
+    private final JdbcTemplate jdbcTemplate;
+    private final long retentionDays;
+    private final Duration gapTimeout;
+
+    public PostChangeService(PostChangeLogRepository changeLogRepository,
+                             PostRepository postRepository,
+                             PostViewCounter viewCounter,
+                             FileService fileService,
+                             JdbcTemplate jdbcTemplate,
+                             @Value("${post.changes.retention-days:7}") long retentionDays,
+                             @Value("${post.changes.gap-timeout-seconds:10}") long gapTimeoutSeconds) {
+        this.changeLogRepository = changeLogRepository;
+        this.postRepository = postRepository;
+        this.viewCounter = viewCounter;
+        this.fileService = fileService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.retentionDays = retentionDays;
+        this.gapTimeout = Duration.ofSeconds(gapTimeoutSeconds);
+    }
+
+    /**
+     * 변경 기록 추가 - 호출한 쪽 트랜잭션에 포함 (롤백되면 기록도 같이 롤백)
+     */
+    public void record(Long postId, PostChangeLog.ChangeType changeType) {
+        changeLogRepository.save(new PostChangeLog(postId, changeType));
+    }
+
+    /**
+     * since 이후 바뀐 게시물
+     * @param since - 이전 응답의 nextToken (없으면 변경 없이 현재 토큰만 - 목록을 받은 직후 동기화 시작점)
+     * @param size - 한 번에 읽을 변경 기록 수
+     */
+    public PostDto.PostChangesResponse getChanges(String since, int size) {
+
+        LocalDateTime settledBefore = LocalDateTime.now().minus(gapTimeout);
+
+        // 1. 첫 동기화 - 확정된 워터마크만 반환
+        //    (최근 기록 중에는 아직 커밋 안 된 번호가 있을 수 있으므로 gap-timeout 이전 기록까지만 - 최근 변경은 다시 받아도 무방)
+        if (since == null || since.isBlank()) {
+            Long settledChangeId = changeLogRepository.findMaxChangeIdBefore(settledBefore);
+            return PostDto.PostChangesResponse.builder()
+                    .changes(List.of())
+                    .nextToken(CursorUtil.encode(settledChangeId != null ? settledChangeId : 0L))
+                    .hasMore(false)
+                    .build();
+        }
+
+        // 2. 토큰 해석 + 이미 삭제된 구간인지 확인
+        long sinceChangeId = parseToken(since);
+        Long minChangeId = changeLogRepository.findMinChangeId();
+        if (minChangeId != null && sinceChangeId < minChangeId - 1) {
+            // 보관 기간이 지나 중간 기록이 없을 수 있음 (롤백으로 생긴 빈 번호여도 안전하게 전체 다시 받기)
+            throw new BusinessException(HttpStatus.GONE, "동기화 기록이 만료되었습니다. 목록을 다시 조회해주세요.");
+        }
+
+        // 3. 변경 기록 조회 - 다음 페이지 존재 여부 확인을 위해 1개 더
+        List<PostChangeLog> logs = changeLogRepository.findByIdGreaterThanOrderByIdAsc(sinceChangeId, Limit.of(size + 1));
+
+        // 4. 빈 번호 앞에서 멈춤 - 늦게 커밋되는 변경을 건너뛰지 않도록 (멈췄으면 다음 폴링에서 이어서)
+        int settled = countSettled(logs, sinceChangeId, settledBefore);
+        boolean hasMore = settled == logs.size() && logs.size() > size;
+        logs = logs.subList(0, Math.min(settled, size));
+        long nextChangeId = logs.isEmpty() ? sinceChangeId : logs.get(logs.size() - 1).getId();
+
+        // 5. 게시물별로 합침 - 마지막 변경 순서대로, 이 구간 안에서 작성됐으면 CREATED
+        Map<Long, PostChangeLog.ChangeType> changeTypes = new LinkedHashMap<>();
+        for (PostChangeLog change : logs) {
+            PostChangeLog.ChangeType previous = changeTypes.remove(change.getPostId());  // 마지막 변경 위치로 이동
+            changeTypes.put(change.getPostId(), merge(previous, change.getChangeType()));
+        }
+
+        // 6. 현재 요약 조회 (삭제된 게시물은 요약 없음)
+        Map<Long, PostDto.PostFeedRow> rows = postRepository.findPostFeedByIds(changeTypes.keySet()).stream()
+                .collect(Collectors.toMap(PostDto.PostFeedRow::postId, Function.identity()));
+
+        List<PostDto.PostChangeResponse> changes = changeTypes.entrySet().stream()
+                .map(entry -> toResponse(entry.getKey(), entry.getValue(), rows.get(entry.getKey())))
+                .toList();
+
+        return PostDto.PostChangesResponse.builder()
+                .changes(changes)
+                .nextToken(CursorUtil.encode(nextChangeId))
+                .hasMore(hasMore)
+                .build();
+    }
+
+    /**
+     * 보관 기간이 지난 변경 기록 삭제 (한 번에 많이 지우지 않도록 나눠서)
+     */
+    @Scheduled(fixedDelayString = "${post.changes.purge-interval-ms:3600000}")
+    public void purge() {
+        Long maxChangeId = changeLogRepository.findMaxChangeIdBefore(LocalDateTime.now().minusDays(retentionDays));
+        if (maxChangeId == null) {
+            return;
+        }
+
+        int deleted = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.update(
+                    "DELETE FROM post_change_log WHERE change_id <= ? ORDER BY change_id LIMIT ?",
+                    maxChangeId, PURGE_BATCH_SIZE);
+            deleted += batch;
+        } while (batch == PURGE_BATCH_SIZE);
+
+        log.info("게시물 변경 기록 정리 - {}건 삭제", deleted);
+    }
+
+    // 앞에서부터 빈 번호 없이 이어지는 기록 수 (빈 번호 다음 기록이 settledBefore 이전이면 롤백된 번호로 보고 통과)
+    private int countSettled(List<PostChangeLog> logs, long sinceChangeId, LocalDateTime settledBefore) {
+        long previousId = sinceChangeId;
+        for (int i = 0; i < logs.size(); i++) {
+            PostChangeLog change = logs.get(i);
+            if (change.getId() != previousId + 1 && change.getChangedAt().isAfter(settledBefore)) {
+                return i;
+            }
+            previousId = change.getId();
+        }
+        return logs.size();
+    }
+
+    // 같은 구간 안의 여러 변경 합치기 - 작성이 포함되면 CREATED (클라이언트는 처음 보는 게시물)
+    private PostChangeLog.ChangeType merge(PostChangeLog.ChangeType previous, PostChangeLog.ChangeType current) {
+        if (previous == PostChangeLog.ChangeType.CREATED && current != PostChangeLog.ChangeType.DELETED) {
+            return PostChangeLog.ChangeType.CREATED;
+        }
+        return current;
+    }
+
+    private PostDto.PostChangeResponse toResponse(Long postId, PostChangeLog.ChangeType changeType, PostDto.PostFeedRow row) {
+        // 요약이 없으면 그사이 삭제된 게시물
+        if (row == null) {
+            return PostDto.PostChangeResponse.builder()
+                    .postId(postId)
+                    .changeType(PostChangeLog.ChangeType.DELETED)
+                    .build();
+        }
+
+        return PostDto.PostChangeResponse.builder()
+                .postId(postId)
+                .changeType(changeType)
+                .post(PostDto.PostListResponse.from(
+                        row,
+                        row.hit() + viewCounter.getPendingHit(postId),
+                        fileService.buildFileUrlOrNull(row.authorProfileKey())))
+                .build();
+    }
+
+    private long parseToken(String token) {
+        try {
+            return Long.parseLong(CursorUtil.decode(token, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw CursorUtil.invalidCursor();
+        }
+    }
+}
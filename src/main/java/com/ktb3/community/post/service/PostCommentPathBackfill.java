@@ -0,0 +1,54 @@
+package com.ktb3.community.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 댓글 트리 경로(post_comment.path) 채우기
+ * - 답글 도입 전 댓글은 모두 루트 댓글 → depth = 0, path = 댓글 ID 19자리 (PostComment.pathSegment와 같은 형식)
+ * - 시작 시 path가 비어 있는 댓글이 있으면 comment_id 구간별로 채움 (중간에 실패해도 다시 실행하면 이어서 진행)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)  // PostSummaryBackfill 다음
+@RequiredArgsConstructor
+public class PostCommentPathBackfill implements ApplicationRunner {
+
+    private static final long BATCH_SIZE = 1000L;
+
+    private static final String HAS_MISSING_SQL =
+            "SELECT EXISTS (SELECT 1 FROM post_comment WHERE path IS NULL)";
+
+    private static final String BACKFILL_SQL =
+            "UPDATE post_comment SET depth = 0, path = LPAD(comment_id, 19, '0') " +
+            "WHERE path IS NULL AND parent_id IS NULL " +
+            "AND comment_id > ? AND comment_id <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Boolean hasMissing = jdbcTemplate.queryForObject(HAS_MISSING_SQL, Boolean.class);
+        if (!Boolean.TRUE.equals(hasMissing)) {
+            return;
+        }
+
+        Long maxCommentId = jdbcTemplate.queryForObject("SELECT MAX(comment_id) FROM post_comment", Long.class);
+        if (maxCommentId == null) {
+            return;
+        }
+
+        int updated = 0;
+        for (long from = 0; from < maxCommentId; from += BATCH_SIZE) {
+            updated += jdbcTemplate.update(BACKFILL_SQL, from, from + BATCH_SIZE);
+        }
+
+        log.info("댓글 트리 경로 채우기 완료 - {}건", updated);
+    }
+}
@@ -1,19 +1,28 @@
 package com.ktb3.community.post.service;
 
+import com.ktb3.community.common.util.CursorUtil;
+import com.ktb3.community.common.util.EtagUtil;
+import com.ktb3.community.common.util.FieldSelection;
 import com.ktb3.community.file.service.FileService;
 import com.ktb3.community.member.entity.Member;
 import com.ktb3.community.member.repository.MemberRepository;
 import com.ktb3.community.post.dto.PostCommentDto;
+import com.ktb3.community.post.dto.PostDto;
 import com.ktb3.community.post.entity.Post;
+import com.ktb3.community.post.entity.PostChangeLog;
 import com.ktb3.community.post.entity.PostComment;
 import com.ktb3.community.post.repository.PostCommentRepository;
 import com.ktb3.community.post.repository.PostRepository;
+import com.ktb3.community.post.repository.PostSummaryRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -24,11 +33,16 @@ public class PostCommentService {
 
     private final PostCommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final PostSummaryRepository summaryRepository;
+    private final PostChangeService changeService;
     private final MemberRepository memberRepository;
     private final FileService fileService;
+    private final PostDetailCache detailCache;
+    private final PostTrendingRanker trendingRanker;
+    private final PostCommentThreadService threadService;
 
     /**
-     *
+     * 댓글 목록 조회 (페이징)
      * @param postId
      * @param currentMemberId
      * @param pageable
@@ -38,28 +52,85 @@ public class PostCommentService {
                                                             Long currentMemberId,
                                                             Pageable pageable) {
 
-        // 1. 댓글 목록 조회 (Member JOIN FETCH)
-        Page<PostComment> comments = commentRepository.findCommentsByPostId(postId, pageable);
+        // 1. 댓글 목록 조회 - 작성자/프로필 이미지/전체 댓글 수까지 쿼리 한 번으로
+        List<PostCommentDto.CommentRow> rows =
+                commentRepository.findCommentPage(postId, pageable.getOffset(), pageable.getPageSize());
 
-        if (comments.isEmpty()) {
+        if (rows.isEmpty()) {
             return Page.empty(pageable);
         }
 
-        // 2. 작성자 ID 목록 추출
-        List<Long> memberIds = comments.getContent().stream()
-                .map(c -> c.getMember().getId())
-                .distinct()
-                .collect(Collectors.toList());
+        // 2. DTO 변환
+        List<PostCommentDto.CommentResponse> content = rows.stream()
+                .map(row -> PostCommentDto.CommentResponse.from(
+                        row,
+                        fileService.buildFileUrlOrNull(row.authorProfileKey()),
+                        currentMemberId))
+                .toList();
+
+        return new PageImpl<>(content, pageable, rows.get(0).totalCount());
+    }
+
+    /**
+     * 댓글 목록 조회 (커서 기반)
+     * @param postId
+     * @param currentMemberId
+     * @param cursor - 이전 응답의 nextCursor (첫 페이지는 null)
+     * @param size
+     * @param fields - 응답 필드 선택 (프로필 이미지를 빼면 프로필 조인 없이 조회)
+     * @return
+     */
+    public PostCommentDto.CommentSliceResponse getCommentsByCursor(Long postId,
+                                                                   Long currentMemberId,
+                                                                   String cursor,
+                                                                   int size,
+                                                                   FieldSelection fields) {
+
+        // 1. 커서 해석 - (작성일, 댓글 ID)
+        CommentCursor decoded = CommentCursor.parse(cursor);
+
+        // 2. 댓글 목록 조회 - 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        List<PostCommentDto.CommentRow> rows = fields.includes("authorProfileImageUrl")
+                ? commentRepository.findCommentsByCursor(postId, decoded.createdAt(), decoded.commentId(), size + 1)
+                : commentRepository.findCommentsByCursorWithoutProfile(postId, decoded.createdAt(), decoded.commentId(), size + 1);
+
+        // 3. DTO 변환
+        List<PostCommentDto.CommentResponse> comments = rows.stream()
+                .map(row -> PostCommentDto.CommentResponse.from(
+                        row,
+                        fileService.buildFileUrlOrNull(row.authorProfileKey()),
+                        currentMemberId))
+                .toList();
+
+        return PostCommentDto.CommentSliceResponse.of(comments, size);
+    }
+    /**
+     * 댓글 목록 ETag (페이징) - 같은 조건으로 댓글 ID/수정 시각 + 작성자 버전만 조회, 전체 댓글 수 포함
+     * - 작성자 여부가 조회자마다 다르므로 회원 ID 포함
+     * - 작성자 닉네임/프로필 이미지가 바뀌면 작성자 버전(member.updated_at)이 바뀌어 ETag도 바뀜
+     */
+    public String getCommentsEtag(Long postId, Long currentMemberId, Pageable pageable) {
+        long total = postRepository.findPostVersion(postId)
+                .map(PostDto.PostVersion::commentCount)
+                .orElse(0L);
+        List<PostCommentDto.CommentVersion> versions =
+                commentRepository.findCommentPageVersions(postId, pageable.getOffset(), pageable.getPageSize());
+
+        return EtagUtil.strongEtag("comments", postId, pageable.getPageNumber(), pageable.getPageSize(),
+                total, versions, currentMemberId);
+    }
 
-        // 3. 프로필 이미지 배치 조회 (N+1 방지)
-        Map<Long, String> profileUrls = fileService.getProfileImageUrls(memberIds);
+    /**
+     * 댓글 목록 ETag (커서 기반)
+     */
+    public String getCommentsByCursorEtag(Long postId, Long currentMemberId, String cursor, int size) {
+        CommentCursor decoded = CommentCursor.parse(cursor);
+        List<PostCommentDto.CommentVersion> versions = commentRepository.findCommentVersionsByCursor(
+                postId, decoded.createdAt(), decoded.commentId(), size + 1);
 
-        // 4. DTO 변환
-        return comments.map(comment -> {
-            String profileUrl = profileUrls.get(comment.getMember().getId());
-            return PostCommentDto.CommentResponse.from(comment, profileUrl, currentMemberId);
-        });
+        return EtagUtil.strongEtag("comments", postId, cursor, size, versions, currentMemberId);
     }
+
     /**
      * 댓글 생성
      * @param postId
@@ -87,7 +158,16 @@ public class PostCommentService {
 
         PostComment savedComment = commentRepository.save(comment);
 
-        // 4. 작성자 프로필 이미지 조회
+        // 4. 트리 위치 지정 (답글이면 부모 댓글 아래, 깊이 제한 확인)
+        threadService.place(savedComment, postId, request.getParentId());
+
+        postRepository.addCommentCount(postId, 1);
+        summaryRepository.addCommentCount(postId, 1);
+        changeService.record(postId, PostChangeLog.ChangeType.UPDATED);
+        detailCache.evict(postId);
+        trendingRanker.recordComment(postId, 1);
+
+        // 5. 작성자 프로필 이미지 조회
         String profileUrl = fileService.getProfileImageUrl(memberId);
 
         return PostCommentDto.CommentResponse.from(savedComment,profileUrl,memberId);
@@ -120,7 +200,7 @@ public class PostCommentService {
     }
 
     /**
-     * 댓글 삭제 - 사용자가 삭제하는라 하드 삭제
+     * 댓글 삭제 - 사용자가 삭제하는라 하드 삭제 (답글이 있으면 하위 답글까지 함께)
      * @param commentId
      * @param memberId
      */
@@ -133,8 +213,21 @@ public class PostCommentService {
         // 2. 작성자 확인
         validateOwnership(comment, memberId);
 
-        // 3. 댓글 삭제 - 하드 삭제
-        commentRepository.delete(comment);
+        // 3. 댓글 삭제 - 하드 삭제 (path 범위로 하위 답글까지, 경로가 없는 이전 댓글은 단건)
+        Long postId = comment.getPost().getId();
+        int deleted;
+        if (comment.getPath() != null) {
+            deleted = commentRepository.deleteSubtree(postId, comment.getPath(),
+                    PostComment.subtreeUpperBound(comment.getPath()));
+        } else {
+            commentRepository.delete(comment);
+            deleted = 1;
+        }
+        postRepository.addCommentCount(postId, -deleted);
+        summaryRepository.addCommentCount(postId, -deleted);
+        changeService.record(postId, PostChangeLog.ChangeType.UPDATED);
+        detailCache.evict(postId);
+        trendingRanker.recordComment(postId, -deleted);
 
     }
 
@@ -154,6 +247,8 @@ public class PostCommentService {
 
         // 2. 해당 게시물의 모든 댓글 소프트 삭제
         comments.forEach(PostComment::deleteComment);
+        postRepository.addCommentCount(postId, -comments.size());
+        summaryRepository.addCommentCount(postId, -comments.size());
     }
 
     // 댓글 작성자 권한 확인
@@ -162,4 +257,21 @@ public class PostCommentService {
             throw new IllegalArgumentException("권한이 없습니다.");
         }
     }
+
+    // 댓글 커서 (작성일, 댓글 ID) - 첫 페이지는 둘 다 null
+    private record CommentCursor(LocalDateTime createdAt, Long commentId) {
+
+        static CommentCursor parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return new CommentCursor(null, null);
+            }
+
+            String[] values = CursorUtil.decode(cursor, 2);
+            try {
+                return new CommentCursor(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw CursorUtil.invalidCursor();
+            }
+        }
+    }
 }
@@ -0,0 +1,142 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.common.exception.BusinessException;
+import com.ktb3.community.common.util.CursorUtil;
+import com.ktb3.community.file.service.FileService;
+import com.ktb3.community.post.dto.PostCommentDto;
+import com.ktb3.community.post.entity.PostComment;
+import com.ktb3.community.post.repository.PostCommentRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 스레드 (답글)
+ * - 답글 위치는 materialized path로 저장 (PostComment 참고) → 단계별 재귀 조회 없이 path 범위 스캔 한 번
+ * - 목록: 루트 댓글을 최신순 커서 페이징하고, 페이지에 들어온 루트들의 답글 트리 전체를 함께 응답
+ *   (페이지의 루트들은 ID가 연속 구간이므로 [가장 오래된 루트 path, 가장 최근 루트 path 끝) 범위 하나로 조회)
+ * - 깊이 제한(post.comment.max-depth): 이 깊이의 댓글에는 답글을 달 수 없음 (루트 = 0)
+ */
+@Service
+public class PostCommentThreadService {
+
+    // path 컬럼 길이로 담을 수 있는 최대 깊이
+    private static final int MAX_SUPPORTED_DEPTH =
+            PostComment.PATH_MAX_LENGTH / PostComment.PATH_SEGMENT_LENGTH - 1;
+
+    private final PostCommentRepository commentRepository;
+    private final FileService fileService;
+    private final int maxDepth;
+
+    public PostCommentThreadService(PostCommentRepository commentRepository,
+                                    FileService fileService,
+                                    @Value("${post.comment.max-depth:3}") int maxDepth) {
+        if (maxDepth < 0 || maxDepth > MAX_SUPPORTED_DEPTH) {
+            throw new IllegalStateException("post.comment.max-depth는 0 ~ " + MAX_SUPPORTED_DEPTH + " 사이여야 합니다.");
+        }
+        this.commentRepository = commentRepository;
+        this.fileService = fileService;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * 새 댓글의 트리 위치 지정 (저장 직후, 같은 트랜잭션) - parentId가 없으면 루트 댓글
+     */
+    public void place(PostComment comment, Long postId, Long parentId) {
+        if (parentId == null) {
+            comment.placeUnder(null);
+            return;
+        }
+
+        // 1. 부모 댓글 확인 - 같은 게시물의 삭제되지 않은 댓글
+        PostComment parent = commentRepository.findByIdAndDeletedAtIsNull(parentId)
+                .filter(found -> found.getPost().getId().equals(postId))
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 댓글입니다."));
+
+        // 2. 깊이 제한
+        if (parent.getDepth() >= maxDepth) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, "더 이상 답글을 달 수 없습니다.");
+        }
+
+        comment.placeUnder(parent);
+    }
+
+    /**
+     * 댓글 스레드 목록 - 루트 댓글 최신순 커서 페이징 + 루트마다 답글 트리 (오래된순)
+     */
+    @Transactional(readOnly = true)
+    public PostCommentDto.CommentThreadPageResponse getThreads(Long postId, Long currentMemberId, String cursor, int size) {
+
+        // 1. 커서 해석 → 마지막 루트 댓글 ID
+        Long cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                cursorId = Long.parseLong(CursorUtil.decode(cursor, 1)[0]);
+            } catch (NumberFormatException e) {
+                throw CursorUtil.invalidCursor();
+            }
+        }
+
+        // 2. 루트 댓글 ID (최신순, 다음 페이지 확인용 +1)
+        List<Long> rootIds = commentRepository.findRootCommentIds(postId, cursorId, size + 1);
+        boolean hasNext = rootIds.size() > size;
+        if (hasNext) {
+            rootIds = rootIds.subList(0, size);
+        }
+        if (rootIds.isEmpty()) {
+            return PostCommentDto.CommentThreadPageResponse.builder()
+                    .comments(List.of())
+                    .hasNext(false)
+                    .build();
+        }
+
+        // 3. 페이지의 루트들 + 답글 전체 - path 범위 스캔 한 번 (path 순 = 부모 다음에 자식)
+        Long newestRootId = rootIds.get(0);
+        Long oldestRootId = rootIds.get(rootIds.size() - 1);
+        List<PostCommentDto.ThreadRow> rows = commentRepository.findThreadRows(
+                postId,
+                PostComment.pathSegment(oldestRootId),
+                PostComment.subtreeUpperBound(PostComment.pathSegment(newestRootId)),
+                maxDepth);
+
+        // 4. 작성자 프로필 이미지 - IN 쿼리 한 번
+        Map<Long, String> profileUrls = fileService.getProfileImageUrls(rows.stream()
+                .map(PostCommentDto.ThreadRow::authorId)
+                .distinct()
+                .toList());
+
+        // 5. 트리 구성 - path 순이므로 부모가 항상 먼저 나옴
+        Map<Long, PostCommentDto.CommentThreadResponse> nodes = new HashMap<>();
+        for (PostCommentDto.ThreadRow row : rows) {
+            PostCommentDto.CommentThreadResponse node = PostCommentDto.CommentThreadResponse.from(
+                    row, profileUrls.get(row.authorId()), currentMemberId);
+            nodes.put(row.commentId(), node);
+
+            PostCommentDto.CommentThreadResponse parent = row.parentId() == null ? null : nodes.get(row.parentId());
+            if (parent != null) {
+                parent.getReplies().add(node);
+            }
+        }
+
+        // 6. 루트는 최신순으로
+        List<PostCommentDto.CommentThreadResponse> comments = new ArrayList<>();
+        for (Long rootId : rootIds) {
+            PostCommentDto.CommentThreadResponse root = nodes.get(rootId);
+            if (root != null) {
+                comments.add(root);
+            }
+        }
+
+        return PostCommentDto.CommentThreadPageResponse.builder()
+                .comments(comments)
+                .nextCursor(CursorUtil.encode(oldestRootId))
+                .hasNext(hasNext)
+                .build();
+    }
+}
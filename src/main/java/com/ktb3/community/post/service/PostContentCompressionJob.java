@@ -0,0 +1,128 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.common.converter.CompressedTextConverter;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 게시물 본문 압축 저장 전환
+ * - 시작 시 post_content.content 가 아직 LONGTEXT면 LONGBLOB으로 변경 (바이트는 그대로 유지 → 기존 평문도 읽힘)
+ * - 이후 백그라운드에서 압축 기준 이상인 평문 본문을 post_id 순서로 조금씩 압축해서 다시 저장
+ *   (읽은 뒤 수정된 본문은 덮어쓰지 않도록 content가 그대로일 때만 갱신)
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)  // PostContentMigration 다음
+public class PostContentCompressionJob implements ApplicationRunner {
+
+    private static final String COLUMN_TYPE_SQL =
+            "SELECT data_type FROM information_schema.columns " +
+            "WHERE table_schema = DATABASE() AND table_name = 'post_content' AND column_name = 'content'";
+
+    // 압축 기준 이상이면서 아직 압축 마커(0xFF)가 없는 본문
+    private static final String FIND_SQL =
+            "SELECT post_id, content FROM post_content " +
+            "WHERE post_id > ? AND LENGTH(content) >= ? AND ASCII(content) <> 255 " +
+            "ORDER BY post_id LIMIT ?";
+
+    private static final String UPDATE_SQL =
+            "UPDATE post_content SET content = ? WHERE post_id = ? AND content = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final long pauseMs;
+
+    private volatile boolean stopped;
+
+    public PostContentCompressionJob(JdbcTemplate jdbcTemplate,
+                                     @Qualifier("virtualThreadExecutor") ExecutorService executor,
+                                     @Value("${post.content-compression.rewrite-batch-size:200}") int batchSize,
+                                     @Value("${post.content-compression.rewrite-pause-ms:100}") long pauseMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+
+        // 1. 컬럼 타입 변경 (다른 초기화가 본문을 읽기 전에)
+        List<String> types = jdbcTemplate.queryForList(COLUMN_TYPE_SQL, String.class);
+        if (!types.isEmpty() && "longtext".equalsIgnoreCase(types.get(0))) {
+            jdbcTemplate.execute("ALTER TABLE post_content MODIFY content LONGBLOB NOT NULL");
+            log.info("post_content.content 컬럼을 LONGBLOB으로 변경");
+        }
+
+        // 2. 기존 본문 압축은 백그라운드로
+        executor.submit(this::rewrite);
+    }
+
+    @PreDestroy
+    public void stop() {
+        stopped = true;
+    }
+
+    /**
+     * 평문으로 저장된 긴 본문을 압축해서 다시 저장
+     * @return 압축된 게시물 수
+     */
+    public int rewrite() {
+        long lastPostId = 0;
+        int rewritten = 0;
+
+        try {
+            while (!stopped) {
+
+                // 1. 다음 배치 조회
+                List<Row> rows = jdbcTemplate.query(FIND_SQL,
+                        (rs, rowNum) -> new Row(rs.getLong("post_id"), rs.getBytes("content")),
+                        lastPostId, CompressedTextConverter.THRESHOLD_BYTES, batchSize);
+                if (rows.isEmpty()) {
+                    break;
+                }
+                lastPostId = rows.get(rows.size() - 1).postId();
+
+                // 2. 압축 효과가 있는 본문만 갱신
+                List<Object[]> batchArgs = new ArrayList<>();
+                for (Row row : rows) {
+                    byte[] encoded = CompressedTextConverter.encode(new String(row.content(), StandardCharsets.UTF_8));
+                    if (CompressedTextConverter.isCompressed(encoded)) {
+                        batchArgs.add(new Object[]{encoded, row.postId(), row.content()});
+                    }
+                }
+                if (!batchArgs.isEmpty()) {
+                    for (int updated : jdbcTemplate.batchUpdate(UPDATE_SQL, batchArgs)) {
+                        rewritten += Math.max(updated, 0);
+                    }
+                }
+
+                // 3. 서비스 요청에 부담 주지 않도록 잠깐 쉬고 다음 배치
+                Thread.sleep(pauseMs);
+            }
+            log.info("게시물 본문 압축 완료 - {}건", rewritten);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("게시물 본문 압축 중단 - {}건 (post_id {}까지)", rewritten, lastPostId);
+        } catch (RuntimeException e) {
+            log.warn("게시물 본문 압축 실패 - 다음 시작 시 이어서 진행합니다. ({}건 완료)", rewritten, e);
+        }
+        return rewritten;
+    }
+
+    private record Row(long postId, byte[] content) {}
+}
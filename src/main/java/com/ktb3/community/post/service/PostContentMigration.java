@@ -0,0 +1,82 @@
+package com.ktb3.community.post.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * post.content → post_content 이전
+ * - 웹 서버가 요청을 받기 전(빈 초기화 시점)에 post.content를 NULL 허용으로 변경
+ *   → 본문 없이 post에 INSERT 하는 새 코드가 이전 중에도 실패하지 않음
+ * - 시작할 때마다 post 테이블에 content 컬럼이 남아 있으면 post_id 구간별로 post_content에 복사
+ *   (이미 복사된 행은 건너뛰므로 중간에 실패해도 다시 실행하면 이어서 진행, 이전 버전 서버가 쓴 본문도 다음 시작 때 복사)
+ * - 컬럼 삭제는 되돌릴 수 없으므로 --drop-post-content-column 옵션을 줄 때만 (모든 서버가 새 버전으로 바뀐 뒤)
+ *   ex) java -jar app.jar --drop-post-content-column
+ * - 검색 색인 등 본문을 읽는 다른 초기화보다 먼저 실행
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class PostContentMigration implements ApplicationRunner {
+
+    private static final String DROP_OPTION = "drop-post-content-column";
+    private static final long BATCH_SIZE = 1000L;
+
+    private static final String COLUMN_NULLABLE_SQL =
+            "SELECT is_nullable FROM information_schema.columns " +
+            "WHERE table_schema = DATABASE() AND table_name = 'post' AND column_name = 'content'";
+
+    private static final String BACKFILL_SQL =
+            "INSERT IGNORE INTO post_content (post_id, content) " +
+            "SELECT post_id, content FROM post WHERE post_id > ? AND post_id <= ? AND content IS NOT NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기존 컬럼을 NULL 허용으로 (요청을 받기 전)
+     */
+    @PostConstruct
+    void relaxContentColumn() {
+        if ("NO".equals(contentColumnNullable())) {
+            jdbcTemplate.execute("ALTER TABLE post MODIFY content LONGTEXT NULL");
+            log.info("post.content 컬럼을 NULL 허용으로 변경");
+        }
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (contentColumnNullable() == null) {
+            return;  // 이미 삭제됨
+        }
+
+        // 1. 구간별로 본문 복사
+        Long maxPostId = jdbcTemplate.queryForObject("SELECT MAX(post_id) FROM post", Long.class);
+        int copied = 0;
+        if (maxPostId != null) {
+            for (long from = 0; from < maxPostId; from += BATCH_SIZE) {
+                copied += jdbcTemplate.update(BACKFILL_SQL, from, from + BATCH_SIZE);
+            }
+        }
+        log.info("게시물 본문 이전 - {}건 복사", copied);
+
+        // 2. 기존 컬럼 삭제 - 옵션을 준 경우만
+        if (args.containsOption(DROP_OPTION)) {
+            jdbcTemplate.execute("ALTER TABLE post DROP COLUMN content");
+            log.info("post.content 컬럼 삭제");
+        }
+    }
+
+    // content 컬럼의 NULL 허용 여부 (YES / NO, 컬럼이 없으면 null)
+    private String contentColumnNullable() {
+        return jdbcTemplate.queryForList(COLUMN_NULLABLE_SQL, String.class).stream()
+                .findFirst()
+                .orElse(null);
+    }
+}
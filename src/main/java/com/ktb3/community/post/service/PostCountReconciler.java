@@ -0,0 +1,72 @@
+package com.ktb3.community.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시물 좋아요/댓글 수(post.like_count, post.comment_count) 재계산 (post_summary에도 같이 반영)
+ * - 태그별 게시물 수(tag.post_count)도 post_tag 기준으로 다시 계산
+ * - 실행 시 --reconcile-post-counts 옵션을 주면 post_like, post_comment 기준으로 다시 계산
+ *   ex) java -jar app.jar --reconcile-post-counts
+ * - 한번에 전체 테이블을 잠그지 않도록 post_id 구간별로 나눠서 갱신
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCountReconciler implements ApplicationRunner {
+
+    private static final String OPTION = "reconcile-post-counts";
+    private static final long BATCH_SIZE = 1000L;
+
+    private static final String RECONCILE_SQL =
+            "UPDATE post p " +
+            "SET p.like_count = (SELECT COUNT(*) FROM post_like pl WHERE pl.post_id = p.post_id), " +
+            "p.comment_count = (SELECT COUNT(*) FROM post_comment c " +
+            "WHERE c.post_id = p.post_id AND c.deleted_at IS NULL) " +
+            "WHERE p.post_id > ? AND p.post_id <= ?";
+
+    // 목록용 요약 행도 재계산된 값으로 맞춤
+    private static final String SYNC_SUMMARY_SQL =
+            "UPDATE post_summary s JOIN post p ON p.post_id = s.post_id " +
+            "SET s.like_count = p.like_count, s.comment_count = p.comment_count " +
+            "WHERE s.post_id > ? AND s.post_id <= ?";
+
+    // 태그별 게시물 수 - (tag_id, post_id) 인덱스로 태그마다 COUNT
+    private static final String RECONCILE_TAG_SQL =
+            "UPDATE tag t SET t.post_count = (SELECT COUNT(*) FROM post_tag pt WHERE pt.tag_id = t.tag_id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPTION)) {
+            reconcile();
+        }
+    }
+
+    /**
+     * 전체 게시물 카운트 재계산
+     * @return 갱신된 게시물 수
+     */
+    public int reconcile() {
+
+        Long maxPostId = jdbcTemplate.queryForObject("SELECT MAX(post_id) FROM post", Long.class);
+        if (maxPostId == null) {
+            return 0;
+        }
+
+        int updated = 0;
+        for (long from = 0; from < maxPostId; from += BATCH_SIZE) {
+            updated += jdbcTemplate.update(RECONCILE_SQL, from, from + BATCH_SIZE);
+            jdbcTemplate.update(SYNC_SUMMARY_SQL, from, from + BATCH_SIZE);
+        }
+        int tags = jdbcTemplate.update(RECONCILE_TAG_SQL);
+
+        log.info("게시물 좋아요/댓글 수 재계산 완료 - {}건 (태그 {}개)", updated, tags);
+        return updated;
+    }
+}
@@ -0,0 +1,149 @@
+package com.ktb3.community.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb3.community.common.util.SingleFlight;
+import com.ktb3.community.common.util.TransactionUtil;
+import com.ktb3.community.post.dto.PostDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 게시물 상세 캐시
+ * - 조회자와 무관한 부분(제목, 내용, 이미지, 작성자, 좋아요/댓글 수)만 캐시
+ * - isAuthor / isLiked 는 요청마다 따로 계산
+ * - 최대 개수 + TTL 기준으로 제거, 히트/미스/eviction 통계는 /actuator/metrics/cache.* (cache=postDetail)
+ * - 캐시에 없을 때 같은 게시물에 대한 동시 로딩은 하나로 합침 (SingleFlight, singleflight.calls name=postDetail)
+ */
+@Component
+public class PostDetailCache {
+
+    private final Cache<Long, PostDto.PostDetailSnapshot> cache;
+    private final SingleFlight<Long, PostDto.PostDetailSnapshot> singleFlight;
+
+    // 로딩 중인 게시물별 토큰 - 로딩 중에 그 게시물이 무효화되면 토큰이 지워져 로딩한 값을 캐시하지 않음
+    // (무효화 이전 데이터일 수 있음, 다른 게시물의 무효화와는 무관 / 로딩 중인 게시물만 보관)
+    private final ConcurrentHashMap<Long, Object> loadTokens = new ConcurrentHashMap<>();
+
+    public PostDetailCache(@Value("${post.detail-cache.max-size:10000}") long maxSize,
+                           @Value("${post.detail-cache.ttl-seconds:60}") long ttlSeconds,
+                           MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postDetail");
+        this.singleFlight = new SingleFlight<>("postDetail", meterRegistry);
+    }
+
+    /**
+     * 캐시 조회 - 없으면 loader로 불러와서 저장 (동시에 없으면 한 번만 로딩)
+     * @param deadline - 다른 요청의 로딩을 기다리는 종료 시각 (System.nanoTime 기준, 지나면 503)
+     */
+    public PostDto.PostDetailSnapshot get(Long postId, long deadline, Function<Long, PostDto.PostDetailSnapshot> loader) {
+        PostDto.PostDetailSnapshot cached = cache.getIfPresent(postId);
+        if (cached != null) {
+            return cached;
+        }
+
+        return singleFlight.execute(postId, () -> {
+            Object token = startLoad(postId);
+            try {
+                PostDto.PostDetailSnapshot loaded = loader.apply(postId);
+                putIfNotEvicted(postId, token, loaded);
+                return loaded;
+            } finally {
+                loadTokens.remove(postId, token);
+            }
+        }, deadline);
+    }
+
+    /**
+     * 캐시에 있을 때만 조회 (없으면 null)
+     */
+    public PostDto.PostDetailSnapshot getIfPresent(Long postId) {
+        return cache.getIfPresent(postId);
+    }
+
+    /**
+     * 여러 게시물 캐시 조회 - 없는 게시물만 모아서 loader로 한 번에 불러와 저장
+     * @param loader - 캐시에 없는 게시물 ID → 찾은 게시물 (없는 게시물은 결과에서 빠짐)
+     */
+    public Map<Long, PostDto.PostDetailSnapshot> getAll(Collection<Long> postIds,
+                                                        Function<Set<Long>, Map<Long, PostDto.PostDetailSnapshot>> loader) {
+        Map<Long, PostDto.PostDetailSnapshot> result = new HashMap<>(cache.getAllPresent(postIds));
+
+        Set<Long> missing = new HashSet<>(postIds);
+        missing.removeAll(result.keySet());
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        Map<Long, Object> tokens = new HashMap<>();
+        missing.forEach(postId -> tokens.put(postId, startLoad(postId)));
+        try {
+            Map<Long, PostDto.PostDetailSnapshot> loaded = loader.apply(missing);
+            loaded.forEach((postId, snapshot) -> putIfNotEvicted(postId, tokens.get(postId), snapshot));
+            result.putAll(loaded);
+            return result;
+        } finally {
+            tokens.forEach(loadTokens::remove);
+        }
+    }
+
+    /**
+     * 캐시 무효화 - 트랜잭션 커밋 후에 제거
+     */
+    public void evict(Long postId) {
+        // 토큰 제거와 캐시 제거를 같은 key 잠금 안에서 - 로딩 완료 후 저장(putIfNotEvicted)과 순서가 섞이지 않음
+        TransactionUtil.runAfterCommit(() -> cache.asMap().compute(postId, (id, snapshot) -> {
+            loadTokens.remove(id);
+            return null;
+        }));
+    }
+
+    private Object startLoad(Long postId) {
+        Object token = new Object();
+        loadTokens.put(postId, token);
+        return token;
+    }
+
+    // 로딩을 시작한 뒤 무효화되지 않았을 때만 저장 (같은 게시물을 동시에 로딩한 다른 요청이 토큰을 덮어썼으면 그쪽에 맡김)
+    private void putIfNotEvicted(Long postId, Object token, PostDto.PostDetailSnapshot loaded) {
+        cache.asMap().compute(postId, (id, current) ->
+                loadTokens.get(id) == token ? loaded : current);
+    }
+
+    /**
+     * 여러 게시물 캐시 무효화 (작성자 닉네임/프로필 변경 등) - 트랜잭션 커밋 후에 제거
+     */
+    public void evictAll(Collection<Long> postIds) {
+        TransactionUtil.runAfterCommit(() -> postIds.forEach(postId ->
+                cache.asMap().compute(postId, (id, snapshot) -> {
+                    loadTokens.remove(id);
+                    return null;
+                })));
+    }
+
+    /**
+     * DB에 반영된 조회수만큼 캐시된 조회수도 올려줌 (PostViewCounter 반영 후 호출)
+     */
+    public void addHits(Map<Long, Long> hitDeltas) {
+        hitDeltas.forEach((postId, delta) ->
+                cache.asMap().computeIfPresent(postId, (id, snapshot) ->
+                        snapshot.toBuilder().hit(snapshot.getHit() + delta).build()));
+    }
+}
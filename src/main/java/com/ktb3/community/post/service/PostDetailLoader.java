@@ -0,0 +1,300 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.common.exception.BusinessException;
+import com.ktb3.community.common.util.FieldSelection;
+import com.ktb3.community.file.service.FileService;
+import com.ktb3.community.post.dto.PostDto;
+import com.ktb3.community.post.entity.Post;
+import com.ktb3.community.post.entity.PostContent;
+import com.ktb3.community.post.repository.PostContentRepository;
+import com.ktb3.community.post.repository.PostLikeRepository;
+import com.ktb3.community.post.repository.PostRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물 상세 조회에 필요한 데이터 로딩
+ * - SEQUENTIAL : 읽기 전용 트랜잭션에서 순서대로 조회
+ * - PARALLEL   : 게시물(+작성자 프로필), 이미지, 좋아요 여부를 가상 스레드에서 동시에 조회
+ *                (작업마다 별도 읽기 전용 트랜잭션/커넥션, 요청당 deadline 초과 시 나머지 작업 취소)
+ * 두 모드 모두 같은 게시물을 로딩 중인 다른 요청은 deadline까지만 기다림
+ * 모드별 소요 시간은 post.detail.load 타이머(mode 태그)로 p50/p99 비교
+ * (fields로 일부만 조회한 경우는 scope=partial 로 따로 기록 - 전체 조회는 scope=full)
+ */
+@Component
+public class PostDetailLoader {
+
+    public enum FetchMode { SEQUENTIAL, PARALLEL }
+
+    private final PostRepository postRepository;
+    private final PostContentRepository contentRepository;
+    private final PostLikeRepository likeRepository;
+    private final FileService fileService;
+    private final PostDetailCache detailCache;
+    private final ExecutorService executor;
+    private final TransactionTemplate readOnlyTx;
+    private final FetchMode fetchMode;
+    private final long timeoutMs;
+    private final Timer loadTimer;
+    private final Timer partialLoadTimer;
+
+    public PostDetailLoader(PostRepository postRepository,
+                            PostContentRepository contentRepository,
+                            PostLikeRepository likeRepository,
+                            FileService fileService,
+                            PostDetailCache detailCache,
+                            @Qualifier("virtualThreadExecutor") ExecutorService executor,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${post.detail.fetch-mode:sequential}") FetchMode fetchMode,
+                            @Value("${post.detail.fetch-timeout-ms:2000}") long timeoutMs) {
+        this.postRepository = postRepository;
+        this.contentRepository = contentRepository;
+        this.likeRepository = likeRepository;
+        this.fileService = fileService;
+        this.detailCache = detailCache;
+        this.executor = executor;
+        this.fetchMode = fetchMode;
+        this.timeoutMs = timeoutMs;
+
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+
+        this.loadTimer = Timer.builder("post.detail.load")
+                .tag("mode", fetchMode.name().toLowerCase())
+                .tag("scope", "full")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.partialLoadTimer = Timer.builder("post.detail.load")
+                .tag("mode", fetchMode.name().toLowerCase())
+                .tag("scope", "partial")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상세 조회 데이터 (조회자와 무관한 부분은 캐시 사용)
+     */
+    public Result load(Long postId, Long currentMemberId) {
+        return loadTimer.record(() -> fetchMode == FetchMode.PARALLEL
+                ? loadParallel(postId, currentMemberId)
+                : loadSequential(postId, currentMemberId));
+    }
+
+    /**
+     * 필드를 선택한 상세 조회 - 캐시에 없으면 선택하지 않은 본문/이미지/프로필/좋아요 여부 조회를 건너뜀
+     * (일부만 채운 데이터이므로 캐시에 넣지 않음, 전체 선택이면 load와 동일)
+     */
+    public Result load(Long postId, Long currentMemberId, FieldSelection fields) {
+        if (fields.isAll()) {
+            return load(postId, currentMemberId);
+        }
+
+        return partialLoadTimer.record(() -> {
+            PostDto.PostDetailSnapshot snapshot = detailCache.getIfPresent(postId);
+            if (snapshot == null) {
+                snapshot = readOnlyTx.execute(status -> loadPartialSnapshot(postId, fields));
+            }
+
+            boolean isLiked = fields.includes("liked") && currentMemberId != null
+                    && Boolean.TRUE.equals(readOnlyTx.execute(status -> checkIsLiked(postId, currentMemberId)));
+
+            return new Result(snapshot, isLiked);
+        });
+    }
+
+    /**
+     * 여러 게시물 상세 조회 데이터 - 캐시에 없는 게시물만 IN 쿼리로 한 번에
+     * (게시물+작성자 / 본문 / 이미지 / 작성자 프로필 / 조회자의 좋아요 여부 - 각각 쿼리 한 번)
+     * @return 게시물 ID별 결과 (없거나 삭제된 게시물은 빠짐)
+     */
+    public Map<Long, Result> loadAll(Collection<Long> postIds, Long currentMemberId) {
+
+        // 1. 조회자와 무관한 부분 - 캐시 + 없는 것만 일괄 조회
+        Map<Long, PostDto.PostDetailSnapshot> snapshots = detailCache.getAll(postIds,
+                missing -> readOnlyTx.execute(status -> loadSnapshots(missing)));
+
+        // 2. 좋아요 여부 - 조회자가 누른 게시물 ID를 한 번에
+        Set<Long> likedPostIds = currentMemberId == null || snapshots.isEmpty()
+                ? Set.of()
+                : new HashSet<>(readOnlyTx.execute(status ->
+                        likeRepository.findLikedPostIds(currentMemberId, snapshots.keySet())));
+
+        Map<Long, Result> results = new HashMap<>();
+        snapshots.forEach((postId, snapshot) ->
+                results.put(postId, new Result(snapshot, likedPostIds.contains(postId))));
+        return results;
+    }
+
+    private Result loadSequential(Long postId, Long currentMemberId) {
+        // 다른 요청의 로딩을 기다리는 동안 커넥션을 잡고 있지 않도록 캐시 조회는 트랜잭션 밖에서 (대기는 제한 시간까지)
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        PostDto.PostDetailSnapshot snapshot = detailCache.get(postId, deadline,
+                id -> readOnlyTx.execute(status -> loadSnapshot(id)));
+
+        // 좋아요 여부는 조회자마다 다르므로 매 요청 확인
+        boolean isLiked = currentMemberId != null
+                && Boolean.TRUE.equals(readOnlyTx.execute(status -> checkIsLiked(postId, currentMemberId)));
+
+        return new Result(snapshot, isLiked);
+    }
+
+    private Result loadParallel(Long postId, Long currentMemberId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        List<Future<?>> forks = new ArrayList<>();
+
+        try {
+            // 1. 좋아요 여부는 캐시와 무관하므로 먼저 시작 (비로그인이면 트랜잭션/커넥션 없이 false)
+            Future<Boolean> isLiked = currentMemberId == null
+                    ? null
+                    : fork(forks, () -> checkIsLiked(postId, currentMemberId));
+
+            // 2. 캐시에 없으면 게시물(+작성자 프로필) / 이미지를 동시에 조회
+            PostDto.PostDetailSnapshot snapshot = detailCache.get(postId, deadline, id -> {
+                Future<Post> post = fork(forks, () -> findPost(id));
+                Future<String> content = fork(forks, () -> findContent(id));
+                Future<List<String>> imageUrls = fork(forks, () -> fileService.getPostImageUrls(id));
+                Post found = await(post, deadline);
+                Future<String> profileUrl = fork(forks,
+                        () -> fileService.getProfileImageUrl(found.getMember().getId()));
+                return PostDto.PostDetailSnapshot.of(found, await(content, deadline),
+                        await(imageUrls, deadline), await(profileUrl, deadline));
+            });
+
+            return new Result(snapshot, isLiked != null && await(isLiked, deadline));
+        } finally {
+            // 실패/시간초과로 빠져나온 경우 남은 작업 취소 (이미 끝난 작업은 영향 없음)
+            forks.forEach(future -> future.cancel(true));
+        }
+    }
+
+    /**
+     * 게시물 상세 캐시 적재용 조회 (순차)
+     */
+    private PostDto.PostDetailSnapshot loadSnapshot(Long postId) {
+
+        // 1. 게시물 조회 (Member JOIN FETCH)
+        Post post = findPost(postId);
+
+        // 2. 본문 조회 (post_content)
+        String content = findContent(postId);
+
+        // 3. 이미지 URL 목록 조회
+        List<String> imageUrls = fileService.getPostImageUrls(postId);
+
+        // 4. 작성자 프로필 이미지 조회 (좋아요/댓글 수는 post 컬럼에서 바로 읽음)
+        String authorProfileUrl = fileService.getProfileImageUrl(post.getMember().getId());
+
+        return PostDto.PostDetailSnapshot.of(post, content, imageUrls, authorProfileUrl);
+    }
+
+    /**
+     * 게시물 상세 캐시 적재용 일괄 조회
+     */
+    private Map<Long, PostDto.PostDetailSnapshot> loadSnapshots(Set<Long> postIds) {
+
+        // 1. 게시물 조회 (Member JOIN FETCH, 삭제된 게시물 제외)
+        List<Post> posts = postRepository.findAllByIdInWithMember(postIds);
+        if (posts.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> foundIds = posts.stream().map(Post::getId).toList();
+
+        // 2. 본문 / 이미지 / 작성자 프로필 - 각각 IN 쿼리 한 번
+        Map<Long, String> contents = contentRepository.findByPostIdIn(foundIds).stream()
+                .collect(Collectors.toMap(PostContent::getPostId, PostContent::getContent));
+        Map<Long, List<String>> imageUrls = fileService.getPostImageUrlsByPostIds(foundIds);
+        Map<Long, String> profileUrls = fileService.getProfileImageUrls(
+                posts.stream().map(post -> post.getMember().getId()).distinct().toList());
+
+        Map<Long, PostDto.PostDetailSnapshot> snapshots = new HashMap<>();
+        for (Post post : posts) {
+            snapshots.put(post.getId(), PostDto.PostDetailSnapshot.of(
+                    post,
+                    contents.getOrDefault(post.getId(), ""),
+                    imageUrls.get(post.getId()),
+                    profileUrls.get(post.getMember().getId())));
+        }
+        return snapshots;
+    }
+
+    /**
+     * 선택한 필드에 필요한 것만 조회 (게시물 + 작성자는 항상)
+     */
+    private PostDto.PostDetailSnapshot loadPartialSnapshot(Long postId, FieldSelection fields) {
+        Post post = findPost(postId);
+
+        String content = fields.includes("content") ? findContent(postId) : null;
+        List<String> imageUrls = fields.includes("imageUrls") ? fileService.getPostImageUrls(postId) : List.of();
+        String authorProfileUrl = fields.includes("authorProfileImageUrl")
+                ? fileService.getProfileImageUrl(post.getMember().getId())
+                : null;
+
+        return PostDto.PostDetailSnapshot.of(post, content, imageUrls, authorProfileUrl);
+    }
+
+    private String findContent(Long postId) {
+        return contentRepository.findContentByPostId(postId).orElse("");
+    }
+
+    private Post findPost(Long postId) {
+        return postRepository.findByIdWithMember(postId)
+                .orElseThrow(() -> new BusinessException(HttpStatus.BAD_REQUEST,"존재하지 않는 게시물입니다."));
+    }
+
+    /**
+     * 내가 좋아요를 눌렀는지 확인
+     */
+    private boolean checkIsLiked(Long postId, Long currentMemberId) {
+        if (currentMemberId == null) {
+            return false;
+        }
+        return likeRepository.existsByMember_IdAndPost_Id(currentMemberId, postId);
+    }
+
+    // 가상 스레드에서 별도 읽기 전용 트랜잭션으로 실행
+    private <T> Future<T> fork(List<Future<?>> forks, Supplier<T> task) {
+        Future<T> future = executor.submit(() -> readOnlyTx.execute(status -> task.get()));
+        forks.add(future);
+        return future;
+    }
+
+    private <T> T await(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new BusinessException(HttpStatus.SERVICE_UNAVAILABLE, "게시물 조회가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(HttpStatus.SERVICE_UNAVAILABLE, "게시물 조회가 중단되었습니다.");
+        }
+    }
+
+    public record Result(PostDto.PostDetailSnapshot snapshot, boolean isLiked) {}
+}
@@ -0,0 +1,230 @@
+package com.ktb3.community.post.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb3.community.common.exception.BusinessException;
+import com.ktb3.community.post.dto.PostDto;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+
+/**
+ * 게시물/댓글 전체 내보내기 (NDJSON - 한 줄에 JSON 하나)
+ * - forward-only 스크롤 커서로 한 행씩 읽어서 바로 응답 스트림에 씀 (전체 목록을 메모리에 올리지 않음)
+ * - 엔티티가 아닌 필요한 컬럼만 조회하고, CHUNK_SIZE 행마다 영속성 컨텍스트를 비우고 flush
+ *   → 테이블 크기와 관계없이 힙 사용량 일정
+ * - MySQL(Connector/J)은 fetch size = Integer.MIN_VALUE 일 때 행 단위로 스트리밍
+ *   (JDBC URL의 useCursorFetch는 모든 쿼리를 서버 prepared statement로 바꾸므로 쓰지 않음)
+ * - 내보내기 하나가 끝날 때까지 DB 커넥션 하나를 쓰므로 동시 실행 수(max-concurrent)와 응답별 제한 시간(timeout-ms)을 둠
+ * - 분석용 내부 기능 - allowed-member-ids에 등록한 회원만 실행 가능 (기본값은 비어 있음 = 아무도 실행 불가)
+ */
+@Slf4j
+@Service
+public class PostExportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    // Connector/J 행 단위 스트리밍 (결과 전체를 클라이언트 메모리에 올리지 않음)
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final String POST_QUERY =
+            "select p.id, p.title, c.content, m.id, m.nickname, p.hit, p.likeCount, p.commentCount, p.createdAt " +
+            "from Post p join p.member m left join PostContent c on c.postId = p.id " +
+            "where p.deletedAt is null " +
+            "order by p.id";
+
+    private static final String COMMENT_QUERY =
+            "select c.id, c.post.id, c.comment, m.id, m.nickname, c.createdAt " +
+            "from PostComment c join c.member m " +
+            "where c.deletedAt is null and c.post.deletedAt is null " +
+            "order by c.post.id, c.id";
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final long timeoutMs;
+    private final Set<Long> allowedMemberIds;
+
+    public PostExportService(EntityManager entityManager,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Qualifier("virtualThreadExecutor") ExecutorService executor,
+                             @Value("${post.export.max-concurrent:1}") int maxConcurrent,
+                             @Value("${post.export.timeout-ms:600000}") long timeoutMs,
+                             @Value("${post.export.allowed-member-ids:}") List<Long> allowedMemberIds) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+        this.permits = new Semaphore(maxConcurrent);
+        this.timeoutMs = timeoutMs;
+        this.allowedMemberIds = Set.copyOf(allowedMemberIds);
+
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 내보내기 시작 - 가상 스레드에서 응답으로 스트리밍
+     * - allowed-member-ids에 없는 회원이면 403
+     * - 이미 max-concurrent 개가 실행 중이면 429
+     * - timeout-ms가 지나면 응답을 끝내고, 다음 쓰기에서 조회를 멈춰 커넥션 반환
+     * @param includeComments - 댓글 포함 여부 (게시물을 모두 쓴 뒤 이어서 출력)
+     */
+    public ResponseBodyEmitter startExport(Long memberId, boolean includeComments) {
+        if (memberId == null || !allowedMemberIds.contains(memberId)) {
+            throw new BusinessException(HttpStatus.FORBIDDEN, "내보내기 권한이 없습니다.");
+        }
+        if (!permits.tryAcquire()) {
+            throw new BusinessException(HttpStatus.TOO_MANY_REQUESTS, "내보내기가 이미 진행 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter(timeoutMs);
+        try {
+            executor.submit(() -> {
+                try {
+                    export(new EmitterOutputStream(emitter), includeComments);
+                    emitter.complete();
+                } catch (Exception e) {
+                    // 제한 시간 초과, 클라이언트 연결 끊김 등
+                    log.warn("게시물 내보내기 중단 - {}", e.getMessage());
+                    emitter.completeWithError(e);
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            permits.release();  // 종료 중
+            throw e;
+        }
+        return emitter;
+    }
+
+    /**
+     * 게시물(+댓글)을 NDJSON으로 출력
+     * @param out - 응답 스트림
+     * @param includeComments - 댓글 포함 여부 (게시물을 모두 쓴 뒤 이어서 출력)
+     */
+    void export(OutputStream out, boolean includeComments) throws IOException {
+        BufferedOutputStream writer = new BufferedOutputStream(out);
+
+        try {
+            readOnlyTx.executeWithoutResult(status -> {
+                Session session = entityManager.unwrap(Session.class);
+
+                // 1. 게시물
+                long posts = stream(session, POST_QUERY, writer, this::toPostLine);
+
+                // 2. 댓글
+                long comments = includeComments
+                        ? stream(session, COMMENT_QUERY, writer, this::toCommentLine)
+                        : 0;
+
+                log.info("게시물 내보내기 완료 - 게시물 {}건, 댓글 {}건", posts, comments);
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 끊김 등 - 원래 예외로 던짐
+            throw e.getCause();
+        }
+
+        writer.flush();
+    }
+
+    // 스크롤 커서로 한 행씩 읽어서 한 줄씩 출력
+    private long stream(Session session, String hql, OutputStream writer, Function<Object[], Object> mapper) {
+        long count = 0;
+
+        try (ScrollableResults<Object[]> rows = session.createSelectionQuery(hql, Object[].class)
+                .setReadOnly(true)
+                .setFetchSize(STREAMING_FETCH_SIZE)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            while (rows.next()) {
+                writer.write(objectMapper.writeValueAsBytes(mapper.apply(rows.get())));
+                writer.write('\n');
+
+                // 청크마다 영속성 컨텍스트 비우고 응답으로 내보냄
+                if (++count % CHUNK_SIZE == 0) {
+                    session.clear();
+                    writer.flush();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        session.clear();
+        return count;
+    }
+
+    private PostDto.PostExportLine toPostLine(Object[] row) {
+        return new PostDto.PostExportLine(
+                "post",
+                (Long) row[0],
+                (String) row[1],
+                (String) row[2],
+                (Long) row[3],
+                (String) row[4],
+                (Long) row[5],
+                (Long) row[6],
+                (Long) row[7],
+                (LocalDateTime) row[8]);
+    }
+
+    private PostDto.CommentExportLine toCommentLine(Object[] row) {
+        return new PostDto.CommentExportLine(
+                "comment",
+                (Long) row[0],
+                (Long) row[1],
+                (String) row[2],
+                (Long) row[3],
+                (String) row[4],
+                (LocalDateTime) row[5]);
+    }
+
+    // 응답 스트림 → emitter (BufferedOutputStream 버퍼 단위로 전송), 이미 끝난 응답이면 IOException
+    private static class EmitterOutputStream extends OutputStream {
+
+        private final ResponseBodyEmitter emitter;
+
+        EmitterOutputStream(ResponseBodyEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            try {
+                emitter.send(Arrays.copyOfRange(b, off, off + len));
+            } catch (IllegalStateException e) {
+                throw new IOException("내보내기 응답이 이미 종료되었습니다.", e);
+            }
+        }
+    }
+}
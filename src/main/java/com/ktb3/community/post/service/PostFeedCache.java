@@ -0,0 +1,197 @@
+package com.ktb3.community.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ktb3.community.common.util.SingleFlight;
+import com.ktb3.community.common.util.TransactionUtil;
+import com.ktb3.community.post.dto.PostDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 게시물 목록 페이지 캐시 (stale-while-revalidate)
+ * - 목록은 조회자와 무관하므로 (정렬, 커서, 크기) 별로 응답 페이지 전체를 캐시
+ * - refresh-seconds 가 지난 페이지는 그대로 응답하고, 키마다 한 번만 백그라운드에서 다시 불러옴
+ * - 다시 불러오기가 실패하면(DB 장애 등) 기존 페이지를 계속 응답 - max-stale-seconds 가 지나면 제거
+ * - 게시물 작성/삭제 시 첫 페이지들(커서 없음)과 삭제된 게시물이 들어 있는 페이지는 커밋 후 제거
+ * 통계
+ * - 히트/미스: /actuator/metrics/cache.gets (cache=postFeed), 히트율: post.feed.cache.hit.ratio
+ * - 응답한 페이지의 나이: post.feed.cache.staleness, 백그라운드 갱신 결과: post.feed.cache.refresh (result)
+ */
+@Slf4j
+@Component
+public class PostFeedCache {
+
+    private final Cache<Key, Page> cache;
+    private final SingleFlight<Key, Page> singleFlight;
+    private final ExecutorService executor;
+    private final long refreshNanos;
+
+    // 백그라운드 갱신 중인 키 - 키마다 갱신은 하나만
+    private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+
+    // 무효화 횟수 - 로딩 중에 무효화가 있었으면 로딩한 값을 캐시하지 않음
+    private final AtomicLong evictVersion = new AtomicLong();
+
+    private final Timer staleness;
+    private final Counter refreshSuccess;
+    private final Counter refreshFailure;
+
+    public PostFeedCache(@Value("${post.feed-cache.max-size:1000}") long maxSize,
+                         @Value("${post.feed-cache.refresh-seconds:5}") long refreshSeconds,
+                         @Value("${post.feed-cache.max-stale-seconds:600}") long maxStaleSeconds,
+                         @Qualifier("virtualThreadExecutor") ExecutorService executor,
+                         MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(maxStaleSeconds))
+                .recordStats()
+                .build();
+        this.singleFlight = new SingleFlight<>("postFeed", meterRegistry);
+        this.executor = executor;
+        this.refreshNanos = TimeUnit.SECONDS.toNanos(refreshSeconds);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "postFeed");
+        Gauge.builder("post.feed.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .register(meterRegistry);
+        this.staleness = Timer.builder("post.feed.cache.staleness")
+                .description("응답한 목록 페이지가 만들어진 뒤 지난 시간")
+                .register(meterRegistry);
+        this.refreshSuccess = Counter.builder("post.feed.cache.refresh")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.refreshFailure = Counter.builder("post.feed.cache.refresh")
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 목록 페이지 조회
+     * - 없으면 loader로 불러와서 저장 (같은 키 동시 로딩은 한 번만)
+     * - 오래된 페이지면 그대로 반환하고 백그라운드에서 갱신
+     */
+    public Page get(Key key, Supplier<Page> loader) {
+        Page cached = cache.getIfPresent(key);
+        if (cached == null) {
+            return singleFlight.execute(key, () -> load(key, loader));
+        }
+
+        long age = System.nanoTime() - cached.loadedAt();
+        staleness.record(age, TimeUnit.NANOSECONDS);
+        if (age >= refreshNanos) {
+            refreshInBackground(key, loader);
+        }
+        return cached;
+    }
+
+    /**
+     * 게시물 작성 - 새 게시물이 보이도록 첫 페이지들 제거 (커밋 후)
+     */
+    public void evictHeadPages() {
+        TransactionUtil.runAfterCommit(() -> {
+            evictVersion.incrementAndGet();
+            cache.asMap().keySet().removeIf(key -> key.cursor() == null);
+        });
+    }
+
+    /**
+     * 게시물 삭제 - 첫 페이지들 + 삭제된 게시물이 들어 있는 페이지 제거 (커밋 후)
+     */
+    public void evictPagesContaining(Long postId) {
+        TransactionUtil.runAfterCommit(() -> {
+            evictVersion.incrementAndGet();
+            cache.asMap().entrySet().removeIf(entry ->
+                    entry.getKey().cursor() == null || entry.getValue().contains(postId));
+        });
+    }
+
+    /**
+     * 작성자 정보 변경 - 작성자의 게시물이 들어 있는 페이지만 제거 (커밋 후)
+     */
+    public void evictPagesContainingAny(Collection<Long> postIds) {
+        Set<Long> ids = Set.copyOf(postIds);
+        TransactionUtil.runAfterCommit(() -> {
+            evictVersion.incrementAndGet();
+            cache.asMap().values().removeIf(page -> page.containsAny(ids));
+        });
+    }
+
+    private Page load(Key key, Supplier<Page> loader) {
+        long version = evictVersion.get();
+        Page loaded = loader.get();
+        if (evictVersion.get() == version) {
+            cache.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    private void refreshInBackground(Key key, Supplier<Page> loader) {
+        if (!refreshing.add(key)) {
+            return;  // 이미 다른 요청이 갱신 중
+        }
+
+        try {
+            executor.submit(() -> {
+                try {
+                    load(key, loader);
+                    refreshSuccess.increment();
+                } catch (RuntimeException e) {
+                    // 기존 페이지를 계속 응답 - 다음 요청에서 다시 시도
+                    refreshFailure.increment();
+                    log.warn("게시물 목록 캐시 갱신 실패 - 기존 페이지 유지 ({})", key, e);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);  // 종료 중
+        }
+    }
+
+    /**
+     * 캐시 키 - 커서가 없으면(첫 페이지) null
+     */
+    public record Key(PostDto.SortType sort, String cursor, int size) {
+
+        public static Key of(PostDto.SortType sort, String cursor, int size) {
+            return new Key(sort, cursor == null || cursor.isBlank() ? null : cursor, size);
+        }
+    }
+
+    /**
+     * 캐시 값 - 응답 페이지 + ETag + 만든 시각(System.nanoTime)
+     */
+    public record Page(PostDto.PostListPageResponse response, String etag, long loadedAt) {
+
+        public static Page of(PostDto.PostListPageResponse response, String etag) {
+            return new Page(response, etag, System.nanoTime());
+        }
+
+        boolean contains(Long postId) {
+            return response.getPosts().stream()
+                    .anyMatch(post -> post.getPostId().equals(postId));
+        }
+
+        boolean containsAny(Set<Long> postIds) {
+            return response.getPosts().stream()
+                    .anyMatch(post -> postIds.contains(post.getPostId()));
+        }
+    }
+}
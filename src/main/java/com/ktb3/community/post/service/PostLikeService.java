@@ -2,22 +2,21 @@ package com.ktb3.community.post.service;
 
 import com.ktb3.community.common.exception.BusinessException;
 import com.ktb3.community.file.service.FileService;
-import com.ktb3.community.member.entity.Member;
 import com.ktb3.community.member.repository.MemberRepository;
 import com.ktb3.community.post.dto.PostCommentDto;
 import com.ktb3.community.post.dto.PostLikeDto;
-import com.ktb3.community.post.entity.Post;
+import com.ktb3.community.post.entity.PostChangeLog;
 import com.ktb3.community.post.entity.PostComment;
-import com.ktb3.community.post.entity.PostLike;
-import com.ktb3.community.post.entity.PostLikeId;
 import com.ktb3.community.post.repository.PostCommentRepository;
 import com.ktb3.community.post.repository.PostLikeRepository;
 import com.ktb3.community.post.repository.PostRepository;
+import com.ktb3.community.post.repository.PostSummaryRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -26,38 +25,48 @@ public class PostLikeService {
 
     private final PostCommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final PostSummaryRepository summaryRepository;
+    private final PostChangeService changeService;
     private final MemberRepository memberRepository;
     private final PostLikeRepository likeRepository;
+    private final PostDetailCache detailCache;
+    private final PostTrendingRanker trendingRanker;
 
     @Transactional
     public PostLikeDto.LikeResponse changeLikeState(Long postId, Long memberId) {
 
         // 1. 게시물 존재 확인
-        Post post = postRepository.findByIdAndDeletedAtIsNull(postId)
+        postRepository.findByIdAndDeletedAtIsNull(postId)
                 .orElseThrow(()-> new BusinessException(HttpStatus.BAD_REQUEST,"존재하지 않는 게시물입니다."));
 
         // 2. 회원 존재 확인
-        Member member = memberRepository.findByIdAndDeletedAtIsNull(memberId)
+        memberRepository.findByIdAndDeletedAtIsNull(memberId)
                 .orElseThrow(()-> new BusinessException(HttpStatus.BAD_REQUEST,"존재하지 않는 회원입니다."));
 
-        // 3. 현재 좋아요 상태 확인
-        PostLikeId likeId = new PostLikeId(memberId, postId);
-        boolean currentLiked = likeRepository.existsById(likeId);
-
-        // 4. 상태에 따른 좋아요 생성/취소
+        // 3. 좋아요 취소 시도 → 지울 행이 없었으면 생성
+        //    확인 후 변경(exists → delete/save)하지 않고, 실제로 바뀐 행 수로 판단 (동시 요청에도 카운트가 행과 일치)
+        int delta;
         boolean nowLiked;
-        // 좋아요 취소
-        if(currentLiked) {
-            likeRepository.deleteById(likeId);
+        if (likeRepository.deleteLike(memberId, postId) == 1) {
+            delta = -1;
             nowLiked = false;
-        }else { // 좋아요 생성
-            PostLike like = new PostLike(member, post);
-            likeRepository.save(like);
+        } else {
+            // 0이면 그사이 다른 요청이 이미 추가 - 좋아요 상태는 맞으므로 카운트는 그대로
+            delta = likeRepository.insertLike(memberId, postId, LocalDateTime.now()) == 1 ? 1 : 0;
             nowLiked = true;
         }
 
+        // 4. 실제로 바뀐 경우에만 좋아요 수 증감 + 변경 기록, 캐시 무효화, 인기 게시물 점수 반영
+        if (delta != 0) {
+            postRepository.addLikeCount(postId, delta);
+            summaryRepository.addLikeCount(postId, delta);
+            changeService.record(postId, PostChangeLog.ChangeType.UPDATED);
+            detailCache.evict(postId);
+            trendingRanker.recordLike(postId, delta);
+        }
+
         // 5. 현재 좋아요 개수
-        long likeCount = likeRepository.countByPostId(postId);
+        long likeCount = postRepository.findLikeCountById(postId);
 
         return new PostLikeDto.LikeResponse(nowLiked,likeCount);
 
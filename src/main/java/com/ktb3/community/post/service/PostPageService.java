@@ -0,0 +1,122 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.common.exception.BusinessException;
+import com.ktb3.community.file.service.FileService;
+import com.ktb3.community.post.dto.PostCommentDto;
+import com.ktb3.community.post.dto.PostDto;
+import com.ktb3.community.post.repository.PostCommentRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 게시물 화면 조회 - 상세 + 댓글 첫 페이지를 한 번에
+ * - 게시물 상세(캐시)와 댓글 목록은 서로 독립적이므로 가상 스레드에서 동시에 조회
+ * - 댓글 작성자 프로필 이미지는 댓글마다 조인하지 않고, 게시물 작성자(상세에 이미 있음)를 뺀 나머지만 IN 쿼리 한 번으로
+ */
+@Service
+public class PostPageService {
+
+    private final PostDetailLoader detailLoader;
+    private final PostCommentRepository commentRepository;
+    private final PostViewCounter viewCounter;
+    private final FileService fileService;
+    private final ExecutorService executor;
+    private final TransactionTemplate readOnlyTx;
+    private final long timeoutMs;
+
+    public PostPageService(PostDetailLoader detailLoader,
+                           PostCommentRepository commentRepository,
+                           PostViewCounter viewCounter,
+                           FileService fileService,
+                           @Qualifier("virtualThreadExecutor") ExecutorService executor,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${post.detail.fetch-timeout-ms:2000}") long timeoutMs) {
+        this.detailLoader = detailLoader;
+        this.commentRepository = commentRepository;
+        this.viewCounter = viewCounter;
+        this.fileService = fileService;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    public PostDto.PostPageResponse getPostPage(Long postId, Long currentMemberId, int commentSize) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        // 1. 상세 / 댓글 첫 페이지 동시 조회 (댓글은 다음 페이지 확인용 +1)
+        Future<PostDetailLoader.Result> detail = executor.submit(() -> detailLoader.load(postId, currentMemberId));
+        Future<List<PostCommentDto.CommentRow>> comments = executor.submit(() -> readOnlyTx.execute(status ->
+                commentRepository.findCommentsByCursorWithoutProfile(postId, null, null, commentSize + 1)));
+
+        PostDetailLoader.Result loaded;
+        List<PostCommentDto.CommentRow> rows;
+        try {
+            loaded = await(detail, deadline);
+            rows = await(comments, deadline);
+        } finally {
+            // 실패/시간초과로 빠져나온 경우 남은 작업 취소
+            detail.cancel(true);
+            comments.cancel(true);
+        }
+        PostDto.PostDetailSnapshot snapshot = loaded.snapshot();
+
+        // 2. 조회수 증가 (상세 조회와 동일)
+        viewCounter.increase(postId);
+        long hit = snapshot.getHit() + viewCounter.getPendingHit(postId);
+        boolean isAuthor = currentMemberId != null && snapshot.getAuthorId().equals(currentMemberId);
+
+        // 3. 댓글 작성자 프로필 - 게시물 작성자는 상세의 값을 재사용, 나머지만 한 번에 조회
+        Long postAuthorId = snapshot.getAuthorId();
+        Map<Long, String> profileUrls = fileService.getProfileImageUrls(rows.stream()
+                .map(PostCommentDto.CommentRow::authorId)
+                .filter(authorId -> !Objects.equals(authorId, postAuthorId))
+                .distinct()
+                .toList());
+
+        List<PostCommentDto.CommentResponse> commentResponses = rows.stream()
+                .map(row -> PostCommentDto.CommentResponse.from(
+                        row,
+                        Objects.equals(row.authorId(), postAuthorId)
+                                ? snapshot.getAuthorProfileImageUrl()
+                                : profileUrls.get(row.authorId()),
+                        currentMemberId))
+                .toList();
+
+        // 4. 응답
+        return PostDto.PostPageResponse.builder()
+                .post(PostDto.PostDetailResponse.of(snapshot, hit, isAuthor, loaded.isLiked()))
+                .comments(PostCommentDto.CommentSliceResponse.of(commentResponses, commentSize))
+                .build();
+    }
+
+    private <T> T await(Future<T> future, long deadline) {
+        try {
+            return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new BusinessException(HttpStatus.SERVICE_UNAVAILABLE, "게시물 조회가 지연되고 있습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(HttpStatus.SERVICE_UNAVAILABLE, "게시물 조회가 중단되었습니다.");
+        }
+    }
+}
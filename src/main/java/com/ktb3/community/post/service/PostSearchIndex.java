@@ -0,0 +1,311 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.common.converter.CompressedTextConverter;
+import com.ktb3.community.common.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시물 검색용 메모리 역색인 (제목 + 내용)
+ * - 토큰: 문자 bigram (PostSearchTokenizer), 제목 토큰은 TITLE_WEIGHT 배로 계산
+ * - 토큰별 posting은 int[] (문서 번호, 빈도) 배열로 저장 - 객체를 만들지 않아 메모리/GC 부담 적음
+ * - 랭킹: BM25 (k1=1.2, b=0.75)
+ * - 시작 시 post 테이블 전체로 생성, 이후 게시물 등록/수정/삭제 커밋 후 반영
+ * 수정/삭제된 문서는 posting에서 바로 빼지 않고 삭제 표시만 함 (수정은 이전 문서 삭제 표시 + 새 문서 추가)
+ * → 삭제 표시 문서가 살아있는 문서보다 많아지면 백그라운드에서 색인을 새로 만듦 (요청 스레드는 기다리지 않음)
+ */
+@Slf4j
+@Component
+public class PostSearchIndex implements ApplicationRunner {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 2;
+
+    private static final String LOAD_SQL =
+            "SELECT p.post_id, p.title, c.content FROM post p " +
+            "LEFT JOIN post_content c ON c.post_id = p.post_id " +
+            "WHERE p.deleted_at IS NULL ORDER BY p.post_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService executor;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean compacting = new AtomicBoolean(); // 백그라운드 재생성은 한 번에 하나만
+
+    private Map<String, Postings> postings = new HashMap<>();
+    private Map<Long, Integer> docByPostId = new HashMap<>();
+    private long[] docPostIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private boolean[] deleted = new boolean[1024];
+    private int docCount;       // 부여한 문서 번호 수 (삭제 표시 포함)
+    private int liveCount;      // 살아있는 문서 수
+    private long liveLengthSum; // 살아있는 문서 길이 합 (평균 길이 계산용)
+    private List<Runnable> pendingChanges; // 재생성 중에 들어온 변경 (교체 후 다시 적용)
+
+    public PostSearchIndex(JdbcTemplate jdbcTemplate,
+                           @Qualifier("virtualThreadExecutor") ExecutorService executor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.executor = executor;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        rebuild();
+    }
+
+    /**
+     * post 테이블 전체로 색인 다시 생성
+     */
+    public synchronized void rebuild() {
+        PostSearchIndex fresh = new PostSearchIndex(jdbcTemplate, executor);
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        // 1. 한 행씩 읽어서 새 색인에 추가 (기존 색인은 그동안 계속 검색 가능)
+        try {
+            jdbcTemplate.query(con -> {
+                PreparedStatement ps = con.prepareStatement(LOAD_SQL);
+                ps.setFetchSize(500);
+                return ps;
+            }, rs -> {
+                fresh.add(rs.getLong("post_id"), rs.getString("title"), decodeContent(rs.getBytes("content")));
+            });
+        } catch (RuntimeException e) {
+            // 실패하면 기존 색인 유지 (변경은 이미 기존 색인에 반영되어 있음)
+            lock.writeLock().lock();
+            try {
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        // 2. 교체
+        lock.writeLock().lock();
+        try {
+            this.postings = fresh.postings;
+            this.docByPostId = fresh.docByPostId;
+            this.docPostIds = fresh.docPostIds;
+            this.docLengths = fresh.docLengths;
+            this.deleted = fresh.deleted;
+            this.docCount = fresh.docCount;
+            this.liveCount = fresh.liveCount;
+            this.liveLengthSum = fresh.liveLengthSum;
+
+            // 읽는 도중 반영된 변경은 새 색인에 없을 수 있으므로 다시 적용
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("게시물 검색 색인 생성 완료 - {}건, 토큰 {}개", fresh.liveCount, fresh.postings.size());
+    }
+
+    /**
+     * 게시물 색인 추가/갱신 - 트랜잭션 커밋 후 반영 (갱신이면 이전 문서는 삭제 표시)
+     */
+    public void index(Long postId, String title, String content) {
+        TransactionUtil.runAfterCommit(() -> change(() -> add(postId, title, content)));
+    }
+
+    /**
+     * 게시물 색인 제거 - 트랜잭션 커밋 후 반영
+     */
+    public void remove(Long postId) {
+        TransactionUtil.runAfterCommit(() -> change(() -> markDeleted(postId)));
+    }
+
+    /**
+     * 검색 - BM25 점수 내림차순 (같은 점수면 게시물 ID 내림차순)
+     * @param query - 검색어
+     * @param cursorScore - 이전 페이지 마지막 결과의 점수 (첫 페이지는 null)
+     * @param cursorPostId - 이전 페이지 마지막 결과의 게시물 ID (첫 페이지는 null)
+     * @param size - 조회할 개수
+     */
+    public List<Hit> search(String query, Double cursorScore, Long cursorPostId, int size) {
+        List<String> terms = PostSearchTokenizer.tokenize(query).stream().distinct().toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveCount == 0) {
+                return List.of();
+            }
+
+            // 1. 토큰별 posting을 돌면서 문서 점수 누적
+            double avgLength = (double) liveLengthSum / liveCount;
+            Map<Integer, Double> scores = new HashMap<>();
+
+            for (String term : terms) {
+                Postings p = postings.get(term);
+                if (p == null) {
+                    continue;
+                }
+
+                double idf = Math.log(1 + (liveCount - p.size + 0.5) / (p.size + 0.5));
+                for (int i = 0; i < p.size; i++) {
+                    int doc = p.docs[i];
+                    if (deleted[doc]) {
+                        continue;
+                    }
+                    int tf = p.freqs[i];
+                    double norm = K1 * (1 - B + B * docLengths[doc] / avgLength);
+                    scores.merge(doc, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+
+            // 2. 커서 이후 결과만 정렬해서 size개
+            return scores.entrySet().stream()
+                    .map(e -> new Hit(docPostIds[e.getKey()], e.getValue()))
+                    .filter(hit -> isAfterCursor(hit, cursorScore, cursorPostId))
+                    .sorted(Hit.ORDER)
+                    .limit(size)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // post_content.content는 압축되어 있을 수 있음 (없으면 빈 본문)
+    private static String decodeContent(byte[] stored) {
+        return stored == null ? "" : CompressedTextConverter.decode(stored);
+    }
+
+    // 변경 적용 후 삭제 표시 문서가 너무 많으면 백그라운드 재생성 시작
+    private void change(Runnable change) {
+        boolean needCompaction;
+        lock.writeLock().lock();
+        try {
+            apply(change);
+            needCompaction = pendingChanges == null && docCount - liveCount > liveCount;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (needCompaction && compacting.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    log.warn("게시물 검색 색인 재생성 실패 - 다음 변경 때 다시 시도", e);
+                } finally {
+                    compacting.set(false);
+                }
+            });
+        }
+    }
+
+    // 변경 적용 - 재생성 중이면 교체 후 다시 적용하도록 기록. 호출하는 쪽에서 쓰기 락
+    private void apply(Runnable change) {
+        change.run();
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    private boolean isAfterCursor(Hit hit, Double cursorScore, Long cursorPostId) {
+        if (cursorScore == null || cursorPostId == null) {
+            return true;
+        }
+        return hit.score() < cursorScore
+                || (hit.score() == cursorScore && hit.postId() < cursorPostId);
+    }
+
+    // 색인 추가 - 호출하는 쪽에서 쓰기 락
+    private void add(Long postId, String title, String content) {
+        markDeleted(postId);
+
+        // 1. 토큰별 빈도 계산 (제목은 가중치만큼)
+        Map<String, Integer> freqs = new HashMap<>();
+        List<String> titleTokens = PostSearchTokenizer.tokenize(title);
+        List<String> contentTokens = PostSearchTokenizer.tokenize(content);
+        titleTokens.forEach(token -> freqs.merge(token, TITLE_WEIGHT, Integer::sum));
+        contentTokens.forEach(token -> freqs.merge(token, 1, Integer::sum));
+
+        // 2. 문서 번호 부여
+        int doc = docCount++;
+        ensureCapacity(docCount);
+        int length = titleTokens.size() * TITLE_WEIGHT + contentTokens.size();
+        docPostIds[doc] = postId;
+        docLengths[doc] = length;
+        docByPostId.put(postId, doc);
+        liveCount++;
+        liveLengthSum += length;
+
+        // 3. posting 추가 (문서 번호가 증가하는 순서로 쌓임)
+        freqs.forEach((term, freq) -> postings.computeIfAbsent(term, t -> new Postings()).add(doc, freq));
+    }
+
+    // 기존 문서 삭제 표시 - 호출하는 쪽에서 쓰기 락
+    private void markDeleted(Long postId) {
+        Integer doc = docByPostId.remove(postId);
+        if (doc == null) {
+            return;
+        }
+        deleted[doc] = true;
+        liveCount--;
+        liveLengthSum -= docLengths[doc];
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= docPostIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, docPostIds.length * 2);
+        docPostIds = Arrays.copyOf(docPostIds, newCapacity);
+        docLengths = Arrays.copyOf(docLengths, newCapacity);
+        deleted = Arrays.copyOf(deleted, newCapacity);
+    }
+
+    /**
+     * 토큰 하나의 posting 목록 - (문서 번호, 빈도)를 같은 인덱스의 int 배열 두 개로 저장
+     */
+    private static class Postings {
+        private int[] docs = new int[4];
+        private int[] freqs = new int[4];
+        private int size;
+
+        void add(int doc, int freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+    }
+
+    /**
+     * 검색 결과 (게시물 ID, BM25 점수)
+     */
+    public record Hit(long postId, double score) {
+
+        static final Comparator<Hit> ORDER = Comparator.<Hit>comparingDouble(Hit::score).reversed()
+                .thenComparing(Comparator.<Hit>comparingLong(Hit::postId).reversed());
+    }
+}
@@ -0,0 +1,50 @@
+package com.ktb3.community.post.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저 - 문자 bigram
+ * - 한국어는 조사/어미가 붙어서 공백 단위로 자르면 "게시물을", "게시물에" 가 서로 다른 단어가 됨
+ *   → 형태소 분석기 없이 두 글자씩 잘라서 부분 일치로 찾음 (ex. "게시물을" → 게시, 시물, 물을)
+ * - 글자/숫자가 아닌 문자는 구분자로 보고, 영문은 소문자로 통일
+ * - 한 글자짜리 단어는 그대로 토큰으로 사용
+ */
+class PostSearchTokenizer {
+
+    private PostSearchTokenizer() {}
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = -1;
+
+        for (int i = 0; i <= length; i++) {
+            boolean wordChar = i < length && Character.isLetterOrDigit(normalized.charAt(i));
+
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                addBigrams(normalized, start, i, tokens);
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+
+    private static void addBigrams(String text, int start, int end, List<String> tokens) {
+        if (end - start == 1) {
+            tokens.add(text.substring(start, end));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            tokens.add(text.substring(i, i + 2));
+        }
+    }
+}
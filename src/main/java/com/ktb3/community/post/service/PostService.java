@@ -1,148 +1,254 @@
 package com.ktb3.community.post.service;
 
 import com.ktb3.community.common.exception.BusinessException;
+import com.ktb3.community.common.util.CursorUtil;
+import com.ktb3.community.common.util.EtagUtil;
+import com.ktb3.community.common.util.FieldSelection;
 import com.ktb3.community.file.entity.File;
 import com.ktb3.community.file.service.FileService;
 import com.ktb3.community.member.entity.Member;
 import com.ktb3.community.member.repository.MemberRepository;
 import com.ktb3.community.post.dto.PostDto;
 import com.ktb3.community.post.entity.Post;
+import com.ktb3.community.post.entity.PostChangeLog;
+import com.ktb3.community.post.entity.PostContent;
+import com.ktb3.community.post.entity.PostSummary;
 import com.ktb3.community.post.repository.PostCommentRepository;
+import com.ktb3.community.post.repository.PostContentRepository;
 import com.ktb3.community.post.repository.PostLikeRepository;
 import com.ktb3.community.post.repository.PostRepository;
-import jakarta.transaction.Transactional;
+import com.ktb3.community.post.repository.PostSummaryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    private static final int MAX_BATCH_SIZE = 50;
+
     private final PostRepository postRepository;
+    private final PostContentRepository contentRepository;
+    private final PostSummaryRepository summaryRepository;
 //    private final FileRepository fileRepository;
     private final MemberRepository memberRepository;
     private final FileService fileService;
     private final PostCommentService commentService;
     private final PostLikeRepository likeRepository;
     private final PostCommentRepository commentRepository;
+    private final PostViewCounter viewCounter;
+    private final PostDetailCache detailCache;
+    private final PostFeedCache feedCache;
+    private final PostChangeService changeService;
+    private final PostDetailLoader detailLoader;
+    private final PostSearchIndex searchIndex;
+    private final PostTrendingRanker trendingRanker;
+    private final PostTagService tagService;
 
-    public PostDto.PostListPageResponse getPostList(Long cursor, int size) {
+    /**
+     * 게시물 목록 - 조회자와 무관하므로 페이지 캐시(PostFeedCache)에서 응답
+     * @return 응답 페이지 + ETag (페이지를 만들 때 계산)
+     */
+    public PostFeedCache.Page getPostList(PostDto.SortType sort, String cursor, int size) {
 
-        // 다음 페이지 존재 여부 확인용 - 실제 조회는 size+1 이니까
-        int fetchSize = size + 1;
+        // 1. 커서 해석 - 잘못된 커서는 캐시 키로 쓰기 전에 거름
+        long[] decodedCursor = sort.parseCursor(cursor);
 
-        // 1. 게시물 목록 조회 - QueryDSL
-        List<Post> posts = postRepository.findPostsByCursor(cursor, fetchSize);
+        // 2. 캐시 조회 (없으면 조회, 오래됐으면 백그라운드 갱신)
+        return feedCache.get(PostFeedCache.Key.of(sort, cursor, size),
+                () -> loadPostListPage(sort, cursor, decodedCursor, size));
+    }
 
-        // 2. 게시물 id, 작성자 id 리스트 조회
-        List<Long> postIds = posts.stream().map(Post::getId).toList();
+    private PostFeedCache.Page loadPostListPage(PostDto.SortType sort, String cursor, long[] decodedCursor, int size) {
 
-        List<Long> memberIds = posts.stream()
-                .map(post -> post.getMember().getId())
-                .distinct().toList();
+        // 다음 페이지 존재 여부 확인용 - 실제 조회는 size+1 이니까
+        int fetchSize = size + 1;
 
-        // 3. 프로필이미지, 좋아요/댓글 수 카운트 조회 - N+1방지
-        Map<Long, String> profileUrls = fileService.getProfileImageUrls(memberIds);
-        Map<Long, Long> likeCounts = getLikeCounts(postIds);
-        Map<Long, Long> commentCounts = getCommentCounts(postIds);
+        // 1. 게시물 목록 조회 - 목록용 요약 테이블(post_summary) 하나만 읽음 (조인 없음)
+        List<PostDto.PostFeedRow> posts = postRepository.findPostFeedByCursor(sort, decodedCursor, fetchSize);
 
-        // 4. DTO변환
-        List<PostDto.PostListResponse> response = posts.stream()
-                .map(post -> PostDto.PostListResponse.from(
-                post,
-                likeCounts.getOrDefault(post.getId(), 0L),
-                commentCounts.getOrDefault(post.getId(), 0L),
-                profileUrls.get(post.getMember().getId())
-        )).collect(Collectors.toList());
+        // 2. DTO변환 + 페이징 형태로 응답
+        PostDto.PostListPageResponse response = PostDto.PostListPageResponse.of(posts, size, sort, this::toListResponse);
 
-        // 6. 페이징 형태로 응답
-        return PostDto.PostListPageResponse.of(response, size);
+        // 3. ETag - 목록에 보이는 값(제목, 작성자, 카운트)이 모두 들어 있는 조회 결과로 계산
+        return PostFeedCache.Page.of(response, EtagUtil.strongEtag("posts", sort, cursor, size, posts));
+    }
 
+    /**
+     * 게시물 ID 목록 → 목록 응답 - 요약 테이블 IN 조회 한 번으로 카운트/작성자 정보까지
+     * - 주어진 ID 순서 유지, 없거나 삭제된 게시물은 제외
+     */
+    public List<PostDto.PostListResponse> getPostListByIds(List<Long> postIds) {
+        Map<Long, PostDto.PostFeedRow> rows = postRepository.findPostFeedByIds(postIds).stream()
+                .collect(Collectors.toMap(PostDto.PostFeedRow::postId, row -> row));
+
+        return postIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .map(this::toListResponse)
+                .toList();
     }
 
-    private Map<Long, Long> getLikeCounts(List<Long> postIds) {
-        List<Map<String, Object>> results = likeRepository.countByPostIdIn(postIds);
+    /**
+     * 목록 행 → 응답 (메모리에 누적 중인 조회수 + 작성자 프로필 이미지 URL)
+     */
+    public PostDto.PostListResponse toListResponse(PostDto.PostFeedRow row) {
+        return PostDto.PostListResponse.from(
+                row,
+                row.hit() + viewCounter.getPendingHit(row.postId()),
+                fileService.buildFileUrlOrNull(row.authorProfileKey()));
+    }
 
-        return results.stream()
-                .collect(Collectors.toMap(
-                        map -> ((Number) map.get("postId")).longValue(),
-                        map -> ((Number) map.get("likeCount")).longValue()
-                ));
+    public List<PostDto.PostListResponse> getTrendingPosts(int size) {
+        // 메모리에 유지 중인 인기 게시물 목록 - DB 조회 없음 (조회수는 다른 목록과 같게 누적분 포함)
+        return trendingRanker.getTrending(size).stream()
+                .map(this::toListResponse)
+                .toList();
     }
 
-    private Map<Long, Long> getCommentCounts(List<Long> postIds) {
-        List<Map<String, Object>> results = commentRepository.countByPostIdIn(postIds);
+    public PostDto.PostSearchPageResponse searchPosts(String query, String cursor, int size) {
+
+        // 1. 커서 해석 - (점수, 게시물 ID)
+        Double cursorScore = null;
+        Long cursorPostId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] values = CursorUtil.decode(cursor, 2);
+            try {
+                cursorScore = Double.parseDouble(values[0]);
+                cursorPostId = Long.parseLong(values[1]);
+            } catch (NumberFormatException e) {
+                throw CursorUtil.invalidCursor();
+            }
+        }
+
+        // 2. 색인 검색 - 다음 페이지 존재 여부 확인을 위해 1개 더
+        List<PostSearchIndex.Hit> hits = searchIndex.search(query, cursorScore, cursorPostId, size + 1);
+        boolean hasNext = hits.size() > size;
+        if (hasNext) {
+            hits = hits.subList(0, size);
+        }
+
+        String nextCursor = null;
+        if (!hits.isEmpty()) {
+            PostSearchIndex.Hit last = hits.get(hits.size() - 1);
+            nextCursor = CursorUtil.encode(last.score(), last.postId());
+        }
+
+        // 3. 게시물 목록 조회 후 점수 순서대로 정렬 (그사이 삭제된 게시물은 제외)
+        List<PostDto.PostListResponse> posts = getPostListByIds(
+                hits.stream().map(PostSearchIndex.Hit::postId).toList());
 
-        return results.stream()
-                .collect(Collectors.toMap(
-                        map -> ((Number) map.get("postId")).longValue(),
-                        map -> ((Number) map.get("commentCount")).longValue()
-                ));
+        return PostDto.PostSearchPageResponse.builder()
+                .posts(posts)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
-    @Transactional
-    public PostDto.PostDetailResponse getPostDetail(Long postId, Long currentMemberId) {
+    /**
+     * 게시물 상세 - 선택한 필드(fields=)에 필요 없는 조회는 건너뜀
+     */
+    public PostDto.PostDetailResponse getPostDetail(Long postId, Long currentMemberId, FieldSelection fields) {
 
-        // 1. 게시물 조회 (Member JOIN FETCH)
-        Post post = postRepository.findByIdWithMember(postId)
-                .orElseThrow(() -> new BusinessException(HttpStatus.BAD_REQUEST,"존재하지 않는 게시물입니다."));
+        // 1. 조회자와 무관한 게시물 정보(캐시) + 좋아요 여부 조회 - 설정에 따라 순차/병렬
+        PostDetailLoader.Result loaded = detailLoader.load(postId, currentMemberId, fields);
+        PostDto.PostDetailSnapshot snapshot = loaded.snapshot();
 
-        // 2. 조회수 증가
-        post.increaseHit();
+        // 2. 조회수 증가 - post row를 갱신하지 않고 메모리에 누적 (주기적으로 DB 일괄 반영)
+        viewCounter.increase(postId);
+        long hit = snapshot.getHit() + viewCounter.getPendingHit(postId);
 
-        // 3. 이미지 URL 목록 조회
-        List<String> imageUrls = fileService.getPostImageUrls(postId);
+        // 3. 권한 정보 - 조회자마다 다르므로 매 요청 계산
+        boolean isAuthor = checkIsAuthor(snapshot, currentMemberId);
 
-        // 4. 작성자 프로필 이미지 조회
-        String authorProfileUrl = fileService.getProfileImageUrl(post.getMember().getId());
+        // 4. DTO 생성
+        return PostDto.PostDetailResponse.of(snapshot, hit, isAuthor, loaded.isLiked());
+    }
 
-        // 5. 좋아요 수 조회
-        long likeCount = likeRepository.countByPostId(postId);
 
-        // 6. 댓글 수 조회
-        long commentCount = commentRepository.countByPost_IdAndDeletedAtIsNull(postId);
+    /**
+     * 게시물 일괄 조회 (미리 불러오기용) - 게시물마다 상세를 따로 조회하지 않고 IN 쿼리로 한 번에
+     * - 요청한 순서대로 응답, 없거나 삭제된 게시물은 found=false
+     * - 실제로 열어본 것이 아니므로 조회수는 올리지 않음
+     */
+    public PostDto.PostBatchResponse getPostsBatch(List<Long> postIds, Long currentMemberId) {
 
-        // 7. 권한 정보 조회
-        boolean isAuthor = checkIsAuthor(post, currentMemberId);
-        boolean isLiked = checkIsLiked(postId, currentMemberId);
+        // 1. 요청 검증
+        if (postIds == null || postIds.isEmpty()) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, "조회할 게시물을 선택해주세요.");
+        }
+        if (postIds.size() > MAX_BATCH_SIZE) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, "한 번에 최대 " + MAX_BATCH_SIZE + "개까지 조회할 수 있습니다.");
+        }
 
-        // 8. DTO 생성
-        return PostDto.PostDetailResponse.of(
-                post,
-                imageUrls,
-                authorProfileUrl,
-                likeCount,
-                commentCount,
-                isAuthor,
-                isLiked
-        );
+        // 2. 중복/null 제외하고 일괄 조회 (캐시에 없는 게시물만 DB 조회)
+        Set<Long> distinctIds = postIds.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, PostDetailLoader.Result> loaded = detailLoader.loadAll(distinctIds, currentMemberId);
+
+        // 3. 요청 순서대로 응답 생성
+        List<PostDto.PostBatchItem> results = postIds.stream()
+                .map(postId -> {
+                    PostDetailLoader.Result result = postId == null ? null : loaded.get(postId);
+                    if (result == null) {
+                        return PostDto.PostBatchItem.notFound(postId);
+                    }
+                    PostDto.PostDetailSnapshot snapshot = result.snapshot();
+                    return PostDto.PostBatchItem.builder()
+                            .postId(postId)
+                            .found(true)
+                            .post(PostDto.PostDetailResponse.of(
+                                    snapshot,
+                                    snapshot.getHit() + viewCounter.getPendingHit(postId),
+                                    checkIsAuthor(snapshot, currentMemberId),
+                                    result.isLiked()))
+                            .build();
+                })
+                .toList();
+
+        return PostDto.PostBatchResponse.builder()
+                .results(results)
+                .build();
     }
 
+    /**
+     * 게시물 상세 ETag - PK 조회 한 번 (게시물이 없으면 null → 일반 조회에서 예외 처리)
+     * - 조회수는 조회할 때마다 바뀌므로 제외, 좋아요 여부/작성자 여부가 조회자마다 다르므로 회원 ID 포함
+     * - 작성자 닉네임/프로필 이미지가 바뀌어도 ETag가 바뀌도록 작성자 버전 포함
+     */
+    public String getPostDetailEtag(Long postId, Long currentMemberId) {
+        return postRepository.findPostVersion(postId)
+                .map(version -> EtagUtil.strongEtag("post", postId, version.updatedAt(),
+                        version.likeCount(), version.commentCount(), version.authorUpdatedAt(), currentMemberId))
+                .orElse(null);
+    }
 
     /**
-     * 내가 작성한 게시물인지 확인
+     * 304 응답이어도 조회수는 증가
      */
-    private boolean checkIsAuthor(Post post, Long currentMemberId) {
-        if (currentMemberId == null) {
-            return false;
-        }
-        return post.getMember().getId().equals(currentMemberId);
+    public void countView(Long postId) {
+        viewCounter.increase(postId);
     }
 
     /**
-     * 내가 좋아요를 눌렀는지 확인
+     * 내가 작성한 게시물인지 확인
      */
-    private boolean checkIsLiked(Long postId, Long currentMemberId) {
+    private boolean checkIsAuthor(PostDto.PostDetailSnapshot snapshot, Long currentMemberId) {
         if (currentMemberId == null) {
             return false;
         }
-        return likeRepository.existsByMember_IdAndPost_Id(currentMemberId, postId);
+        return snapshot.getAuthorId().equals(currentMemberId);
     }
 
 
@@ -157,14 +263,32 @@ public class PostService {
         Post post = Post.builder()
                 .member(member)
                 .title(request.getTitle())
-                .content(request.getContent())
                 .build();
         postRepository.save(post);
 
-        // 3. 이미지 저장
+        // 3. 본문 저장 (post_content)
+        contentRepository.save(PostContent.builder()
+                .post(post)
+                .content(request.getContent())
+                .build());
+
+        // 4. 목록용 요약 행 저장 (post_summary) + 변경 기록
+        summaryRepository.save(PostSummary.of(post, fileService.getProfileImageKey(memberId)));
+        changeService.record(post.getId(), PostChangeLog.ChangeType.CREATED);
+
+        // 5. 이미지 저장
         List<String> imageUrls = fileService.savePostImages(post, request.getImages());
 
-        return PostDto.PostResponse.from(post,imageUrls);
+        // 6. 태그 연결 (태그별 게시물 수 증가)
+        List<String> tags = tagService.replaceTags(post.getId(), request.getTags());
+
+        // 7. 목록 첫 페이지 캐시 무효화 (커밋 후)
+        feedCache.evictHeadPages();
+
+        // 8. 검색 색인 반영 (커밋 후)
+        searchIndex.index(post.getId(), post.getTitle(), request.getContent());
+
+        return PostDto.PostResponse.from(post, request.getContent(), imageUrls, tags);
 
     }
 
@@ -178,11 +302,17 @@ public class PostService {
         // 2. 작성자 수정 권한 확인
         validateOwnership(post, memberId);
 
-        // 3. 이미지 전체 정보(key, fileName, url)
+        // 3. 본문 조회
+        String content = contentRepository.findContentByPostId(postId).orElse("");
+
+        // 4. 이미지 전체 정보(key, fileName, url)
         List<PostDto.ImageDto> images = fileService.getPostImagesForEdit(postId);
 
-        // 4. 반환
-        return PostDto.PostEditResponse.from(post, images);
+        // 5. 태그
+        List<String> tags = tagService.getTagNames(postId);
+
+        // 6. 반환
+        return PostDto.PostEditResponse.from(post, content, images, tags);
     }
 
     @Transactional
@@ -194,19 +324,44 @@ public class PostService {
         // 작성자 검증
         validateOwnership(post, memberId);
 
+        // 본문 조회 (post_content)
+        PostContent postContent = contentRepository.findById(postId)
+                .orElseGet(() -> contentRepository.save(PostContent.builder().post(post).content("").build()));
+
         // 제목/내용 수정 (null이면 기존 유지)
         String newTitle = request.getTitle() != null ? request.getTitle() : post.getTitle();
-        String newContent = request.getContent() != null ? request.getContent() : post.getContent();
-        post.updatePost(newTitle, newContent);
+        String newContent = request.getContent() != null ? request.getContent() : postContent.getContent();
+        post.updatePost(newTitle);
+        if (!newContent.equals(postContent.getContent())) {
+            postContent.updateContent(newContent);
+            post.touch();  // 본문만 바뀌어도 게시물 버전(ETag) 갱신
+        }
 
         // 이미지 교체 (newImage가 있는 경우에만 동작)
         if (request.getNewImage() != null) {
             fileService.replacePostImage(post, request.getNewImage());
+            post.touch();
         }
 
         List<String> imageUrls = fileService.getPostImageUrls(postId);
 
-        return PostDto.PostResponse.from(post, imageUrls);
+        // 태그 교체 (tags가 있는 경우에만 동작)
+        List<String> tags = request.getTags() != null
+                ? tagService.replaceTags(postId, request.getTags())
+                : tagService.getTagNames(postId);
+
+        // 목록용 요약 행 갱신 (제목 + 목록 버전) + 변경 기록
+        summaryRepository.findById(postId)
+                .ifPresent(summary -> summary.updateTitle(newTitle));
+        changeService.record(postId, PostChangeLog.ChangeType.UPDATED);
+
+        // 상세 캐시 무효화 (제목/내용/이미지 변경)
+        detailCache.evict(postId);
+
+        // 검색 색인 갱신 (커밋 후)
+        searchIndex.index(postId, newTitle, newContent);
+
+        return PostDto.PostResponse.from(post, newContent, imageUrls, tags);
     }
 
     @Transactional
@@ -218,14 +373,28 @@ public class PostService {
         // 2. 작성자 삭제 권한 확인
         validateOwnership(post, memberId);
 
-        // 3. 게시물 삭제
+        // 3. 게시물 삭제 (목록용 요약 행도 삭제 표시) + 변경 기록
         post.deletePost();
+        summaryRepository.findById(postId)
+                .ifPresent(PostSummary::markDeleted);
+        changeService.record(postId, PostChangeLog.ChangeType.DELETED);
 
         // 4. 게시물 이미지 존재시 삭제
         fileService.softDeletePostImages(postId);
 
         // 5. 댓글 존재시 삭제
         commentService.softDeleteComments(postId);
+
+        // 6. 태그 연결 삭제 (태그별 게시물 수 감소 - 태그 피드에서 바로 빠짐)
+        tagService.removeTags(postId);
+
+        // 7. 상세 캐시, 목록 페이지 캐시 무효화
+        detailCache.evict(postId);
+        feedCache.evictPagesContaining(postId);
+
+        // 8. 검색 색인, 인기 게시물에서 제거 (커밋 후)
+        searchIndex.remove(postId);
+        trendingRanker.remove(postId);
     }
 
     // 개시물 작성자 권한 확인
@@ -0,0 +1,89 @@
+package com.ktb3.community.post.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록용 요약 테이블(post_summary) 채우기
+ * - 시작 시 요약 행이 없는 게시물이 있으면 post_id 구간별로 post + member + file(프로필)에서 만들어 넣음
+ *   (도입 전에 작성된 게시물 - 이미 있는 행은 건너뛰므로 중간에 실패해도 다시 실행하면 이어서 진행)
+ * - --rebuild-post-summary 옵션을 주면 이미 있는 행도 원본 기준으로 다시 맞춤
+ *   ex) java -jar app.jar --rebuild-post-summary
+ * - 목록/인기 게시물 등 요약 테이블을 읽는 다른 초기화보다 먼저 실행
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)  // PostContentCompressionJob 다음
+@RequiredArgsConstructor
+public class PostSummaryBackfill implements ApplicationRunner {
+
+    private static final String OPTION = "rebuild-post-summary";
+    private static final long BATCH_SIZE = 1000L;
+
+    private static final String HAS_MISSING_SQL =
+            "SELECT EXISTS (SELECT 1 FROM post p " +
+            "WHERE NOT EXISTS (SELECT 1 FROM post_summary s WHERE s.post_id = p.post_id))";
+
+    // 게시물 + 작성자 닉네임 + 현재 프로필 이미지(가장 최근 것 하나)
+    private static final String SELECT_SQL =
+            "SELECT p.post_id, p.title, m.member_id, m.nickname, f.file_path, " +
+            "p.hit, p.like_count, p.comment_count, p.created_at, COALESCE(p.updated_at, p.created_at), " +
+            "p.deleted_at IS NOT NULL " +
+            "FROM post p " +
+            "JOIN member m ON m.member_id = p.member_id " +
+            "LEFT JOIN file f ON f.file_id = (SELECT MAX(lf.file_id) FROM file lf " +
+            "WHERE lf.member_id = m.member_id AND lf.type = 'profile' AND lf.deleted_at IS NULL) " +
+            "WHERE p.post_id > ? AND p.post_id <= ?";
+
+    private static final String COLUMNS =
+            "post_summary (post_id, title, author_id, author_nickname, author_profile_key, " +
+            "hit, like_count, comment_count, created_at, updated_at, deleted) ";
+
+    // 없는 행만 추가
+    private static final String BACKFILL_SQL = "INSERT IGNORE INTO " + COLUMNS + SELECT_SQL;
+
+    // 있는 행은 원본 값으로 덮어씀
+    private static final String REBUILD_SQL =
+            "INSERT INTO " + COLUMNS + SELECT_SQL + " " +
+            "ON DUPLICATE KEY UPDATE title = VALUES(title), author_nickname = VALUES(author_nickname), " +
+            "author_profile_key = VALUES(author_profile_key), hit = VALUES(hit), " +
+            "like_count = VALUES(like_count), comment_count = VALUES(comment_count), " +
+            "updated_at = VALUES(updated_at), deleted = VALUES(deleted)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (args.containsOption(OPTION)) {
+            copy(REBUILD_SQL, "재구성");
+            return;
+        }
+
+        Boolean hasMissing = jdbcTemplate.queryForObject(HAS_MISSING_SQL, Boolean.class);
+        if (Boolean.TRUE.equals(hasMissing)) {
+            copy(BACKFILL_SQL, "채우기");
+        }
+    }
+
+    // post_id 구간별로 요약 행 반영
+    private int copy(String sql, String label) {
+        Long maxPostId = jdbcTemplate.queryForObject("SELECT MAX(post_id) FROM post", Long.class);
+        if (maxPostId == null) {
+            return 0;
+        }
+
+        int copied = 0;
+        for (long from = 0; from < maxPostId; from += BATCH_SIZE) {
+            copied += jdbcTemplate.update(sql, from, from + BATCH_SIZE);
+        }
+
+        log.info("게시물 요약 테이블 {} 완료 - {}건", label, copied);
+        return copied;
+    }
+}
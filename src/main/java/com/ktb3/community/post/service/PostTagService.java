@@ -0,0 +1,191 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.common.exception.BusinessException;
+import com.ktb3.community.file.service.FileService;
+import com.ktb3.community.post.dto.PostDto;
+import com.ktb3.community.post.entity.PostTag;
+import com.ktb3.community.post.entity.Tag;
+import com.ktb3.community.post.repository.PostRepository;
+import com.ktb3.community.post.repository.PostTagRepository;
+import com.ktb3.community.post.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물 태그
+ * - 쓰기: PostService(작성/수정/삭제)와 같은 트랜잭션에서 post_tag 행과 tag.post_count를 함께 갱신
+ * - 읽기: 태그별 피드는 post_tag의 (tag_id, post_id) 인덱스만으로 페이지의 게시물 ID를 구하고,
+ *   목록에 보이는 값은 post_summary를 PK(IN)로 읽음 → 게시물이 늘어도 post 조인/정렬 없음
+ */
+@Service
+@RequiredArgsConstructor
+public class PostTagService {
+
+    private static final int MAX_TAGS = 10;
+    private static final int MAX_TAG_LENGTH = 30;
+
+    private final TagRepository tagRepository;
+    private final PostTagRepository postTagRepository;
+    private final PostRepository postRepository;
+    private final PostViewCounter viewCounter;
+    private final FileService fileService;
+
+    /**
+     * 게시물 태그 교체 - 기존 태그와 비교해서 빠진 것은 삭제, 새로 생긴 것만 추가
+     * @return 정규화된 태그 이름 (이름순)
+     */
+    @Transactional
+    public List<String> replaceTags(Long postId, List<String> tagNames) {
+
+        // 1. 정규화 (앞의 #, 공백 제거 + 소문자, 중복 제거)
+        Set<String> names = normalize(tagNames);
+
+        // 2. 기존 태그와 비교
+        List<Tag> current = postTagRepository.findTagsByPostId(postId);
+        List<Long> removedIds = current.stream()
+                .filter(tag -> !names.contains(tag.getName()))
+                .map(Tag::getId)
+                .toList();
+        Set<String> currentNames = current.stream()
+                .map(Tag::getName)
+                .collect(Collectors.toSet());
+        List<String> addedNames = names.stream()
+                .filter(name -> !currentNames.contains(name))
+                .toList();
+
+        // 3. 빠진 태그 연결 삭제 + 게시물 수 감소
+        if (!removedIds.isEmpty()) {
+            postTagRepository.deleteByPostIdAndTagIds(postId, removedIds);
+            tagRepository.addPostCount(removedIds, -1);
+        }
+
+        // 4. 새 태그 연결 추가 (처음 쓰는 태그는 먼저 생성) + 게시물 수 증가
+        if (!addedNames.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            addedNames.forEach(name -> tagRepository.insertIfAbsent(name, now));
+
+            List<Long> addedIds = tagRepository.findByNameIn(addedNames).stream()
+                    .map(Tag::getId)
+                    .toList();
+            postTagRepository.saveAll(addedIds.stream()
+                    .map(tagId -> new PostTag(tagId, postId))
+                    .toList());
+            tagRepository.addPostCount(addedIds, 1);
+        }
+
+        return names.stream().sorted().toList();
+    }
+
+    /**
+     * 게시물 삭제 - 태그 연결을 모두 지우고 태그별 게시물 수 감소
+     */
+    @Transactional
+    public void removeTags(Long postId) {
+        replaceTags(postId, List.of());
+    }
+
+    /**
+     * 게시물에 달린 태그 이름 (이름순)
+     */
+    @Transactional(readOnly = true)
+    public List<String> getTagNames(Long postId) {
+        return postTagRepository.findTagsByPostId(postId).stream()
+                .map(Tag::getName)
+                .toList();
+    }
+
+    /**
+     * 태그별 게시물 목록 - 최신순 키셋 페이징 (커서는 최신순 목록과 같은 형식)
+     */
+    @Transactional(readOnly = true)
+    public PostDto.TagFeedResponse getTagFeed(String tagName, String cursor, int size) {
+
+        // 1. 태그 조회 - 없는 태그면 빈 목록
+        String name = normalizeOne(tagName);
+        if (name == null) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, "태그를 입력해주세요.");
+        }
+        long[] decodedCursor = PostDto.SortType.LATEST.parseCursor(cursor);
+
+        Tag tag = tagRepository.findByName(name).orElse(null);
+        if (tag == null) {
+            return PostDto.TagFeedResponse.of(name, 0L, PostDto.PostListPageResponse.builder()
+                    .posts(List.of())
+                    .hasNext(false)
+                    .build());
+        }
+
+        // 2. 페이지의 게시물 ID - post_tag (tag_id, post_id) 인덱스만 읽음 (다음 페이지 확인용 +1)
+        Limit limit = Limit.of(size + 1);
+        List<Long> postIds = decodedCursor == null
+                ? postTagRepository.findPostIdsByTag(tag.getId(), limit)
+                : postTagRepository.findPostIdsByTagBefore(tag.getId(), decodedCursor[1], limit);
+
+        // 3. 목록에 보이는 값은 요약 테이블 PK 조회 후 ID 순서대로 정렬
+        Map<Long, PostDto.PostFeedRow> rows = postRepository.findPostFeedByIds(postIds).stream()
+                .collect(Collectors.toMap(PostDto.PostFeedRow::postId, Function.identity()));
+        List<PostDto.PostFeedRow> ordered = postIds.stream()
+                .map(rows::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        // 4. DTO 변환 + 페이징 형태로 응답
+        PostDto.PostListPageResponse page = PostDto.PostListPageResponse.of(ordered, size, PostDto.SortType.LATEST,
+                row -> PostDto.PostListResponse.from(
+                        row,
+                        row.hit() + viewCounter.getPendingHit(row.postId()),
+                        fileService.buildFileUrlOrNull(row.authorProfileKey())));
+
+        return PostDto.TagFeedResponse.of(tag.getName(), tag.getPostCount(), page);
+    }
+
+    // 요청한 태그 목록 정규화 + 개수/길이 검증
+    private Set<String> normalize(List<String> tagNames) {
+        if (tagNames == null) {
+            return Set.of();
+        }
+
+        Set<String> names = new LinkedHashSet<>();
+        for (String tagName : tagNames) {
+            String name = normalizeOne(tagName);
+            if (name == null) {
+                continue;
+            }
+            if (name.length() > MAX_TAG_LENGTH) {
+                throw new BusinessException(HttpStatus.BAD_REQUEST, "태그는 " + MAX_TAG_LENGTH + "자 이하로 입력해주세요.");
+            }
+            names.add(name);
+        }
+
+        if (names.size() > MAX_TAGS) {
+            throw new BusinessException(HttpStatus.BAD_REQUEST, "태그는 " + MAX_TAGS + "개까지 등록할 수 있습니다.");
+        }
+        return names;
+    }
+
+    // "#Spring Boot " → "springboot" (빈 값이면 null)
+    private String normalizeOne(String tagName) {
+        if (tagName == null) {
+            return null;
+        }
+        String name = tagName.strip();
+        while (name.startsWith("#")) {
+            name = name.substring(1);
+        }
+        name = name.replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        return name.isEmpty() ? null : name;
+    }
+}
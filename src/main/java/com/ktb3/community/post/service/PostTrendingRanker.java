@@ -0,0 +1,314 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.common.util.TransactionUtil;
+import com.ktb3.community.post.dto.PostDto;
+import com.ktb3.community.post.repository.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시물(trending) 순위 - 메모리에서 관리
+ * - 점수 = Σ (가중치 × e^(-λ × 경과 시간)), 좋아요/댓글/조회 이벤트마다 가중치만큼 더함 (반감기 half-life-hours)
+ * - 매번 전체 점수를 감쇠시키지 않도록 기준 시각(landmark) 대비 e^(λ × (이벤트 시각 - landmark)) 를 곱해서 더함
+ *   → 모든 게시물에 같은 비율로 감쇠되므로 순서는 그대로, 값이 커지지 않도록 주기적으로 기준 시각을 옮겨 다시 감쇠
+ * - 상위 K개는 인덱스 최소 힙으로 유지 - 이벤트마다 해당 게시물 위치만 O(log K)로 조정
+ * - 응답용 목록 행(제목, 작성자 등)은 주기적으로 갱신해 두고, GET /api/posts/trending 은 DB 조회 없이 반환
+ *   (조회수는 다른 목록과 같게 응답할 때 PostService에서 아직 반영되지 않은 누적분을 더함)
+ */
+@Slf4j
+@Component
+public class PostTrendingRanker implements ApplicationRunner {
+
+    // 이 점수보다 낮아진 게시물은 추적 중단 (메모리 정리)
+    private static final double MIN_SCORE = 0.01;
+
+    private static final String LOAD_SQL =
+            "SELECT post_id, like_count, comment_count, hit, created_at FROM post " +
+            "WHERE deleted_at IS NULL AND created_at >= ?";
+
+    private final PostRepository postRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int capacity;
+    private final double lambda;   // 밀리초당 감쇠율 (ln2 / 반감기)
+    private final double likeWeight;
+    private final double commentWeight;
+    private final double hitWeight;
+    private final Duration window;
+
+    // 추적 중인 게시물 점수 (landmark 기준) + 상위 K개 최소 힙
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Entry[] heap;
+    private int heapSize;
+    private long landmark = System.currentTimeMillis();
+
+    // 응답용 인기 게시물 목록 행 (점수 내림차순) - 교체는 this 락 안에서 (삭제 반영과 순서 보장)
+    private volatile List<PostDto.PostFeedRow> trending = List.of();
+
+    public PostTrendingRanker(PostRepository postRepository,
+                              JdbcTemplate jdbcTemplate,
+                              @Value("${post.trending.size:100}") int capacity,
+                              @Value("${post.trending.half-life-hours:12}") double halfLifeHours,
+                              @Value("${post.trending.like-weight:3}") double likeWeight,
+                              @Value("${post.trending.comment-weight:2}") double commentWeight,
+                              @Value("${post.trending.hit-weight:0.1}") double hitWeight,
+                              @Value("${post.trending.window-days:7}") long windowDays) {
+        this.postRepository = postRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.capacity = capacity;
+        this.lambda = Math.log(2) / Duration.ofMinutes((long) (halfLifeHours * 60)).toMillis();
+        this.likeWeight = likeWeight;
+        this.commentWeight = commentWeight;
+        this.hitWeight = hitWeight;
+        this.window = Duration.ofDays(windowDays);
+        this.heap = new Entry[capacity];
+    }
+
+    /**
+     * 시작 시 최근 게시물의 좋아요/댓글/조회수로 초기 점수 계산
+     * (활동 시각은 알 수 없으므로 작성 시각 기준으로 감쇠)
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        Timestamp since = Timestamp.valueOf(LocalDateTime.now().minus(window));
+
+        synchronized (this) {
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                double weight = likeWeight * rs.getLong("like_count")
+                        + commentWeight * rs.getLong("comment_count")
+                        + hitWeight * rs.getLong("hit");
+                add(rs.getLong("post_id"), weight, rs.getTimestamp("created_at").getTime());
+            }, since);
+        }
+
+        refresh();
+        log.info("인기 게시물 순위 초기화 완료 - 게시물 {}건", entries.size());
+    }
+
+    /**
+     * 좋아요/취소 반영 (커밋 후)
+     */
+    public void recordLike(Long postId, int delta) {
+        record(postId, likeWeight * delta);
+    }
+
+    /**
+     * 댓글 작성/삭제 반영 (커밋 후)
+     */
+    public void recordComment(Long postId, int delta) {
+        record(postId, commentWeight * delta);
+    }
+
+    /**
+     * 조회수 반영 - PostViewCounter가 DB에 반영한 누적분
+     */
+    public synchronized void recordHits(Map<Long, Long> hitDeltas) {
+        long now = System.currentTimeMillis();
+        hitDeltas.forEach((postId, delta) -> add(postId, hitWeight * delta, now));
+    }
+
+    /**
+     * 삭제된 게시물 제외 (커밋 후)
+     */
+    public void remove(Long postId) {
+        TransactionUtil.runAfterCommit(() -> {
+            synchronized (this) {
+                Entry entry = entries.remove(postId);
+                if (entry != null && entry.heapIndex >= 0) {
+                    // 힙에서 빠진 자리는 다음 갱신 때 다시 채움
+                    removeFromHeap(entry.heapIndex);
+                }
+                trending = trending.stream()
+                        .filter(row -> !row.postId().equals(postId))
+                        .toList();
+            }
+        });
+    }
+
+    /**
+     * 인기 게시물 목록 행 (DB 조회 없음)
+     */
+    public List<PostDto.PostFeedRow> getTrending(int size) {
+        List<PostDto.PostFeedRow> current = trending;
+        return current.size() <= size ? current : current.subList(0, size);
+    }
+
+    /**
+     * 주기적으로 다시 감쇠 + 상위 K개 재구성 + 응답용 목록 갱신
+     */
+    @Scheduled(fixedDelayString = "${post.trending.refresh-interval-ms:10000}")
+    public void refresh() {
+
+        // 1. 기준 시각을 현재로 옮기면서 전체 점수 감쇠, 낮아진 게시물 정리 후 힙 재구성
+        List<Long> topPostIds;
+        synchronized (this) {
+            redecay(System.currentTimeMillis());
+            topPostIds = Arrays.stream(heap, 0, heapSize)
+                    .sorted(Comparator.comparingDouble((Entry e) -> e.score).reversed())
+                    .map(e -> e.postId)
+                    .toList();
+        }
+
+        // 2. 상위 게시물 목록 정보 조회 (점수 순서 유지)
+        Map<Long, PostDto.PostFeedRow> rows = postRepository.findPostFeedByIds(topPostIds).stream()
+                .collect(Collectors.toMap(PostDto.PostFeedRow::postId, Function.identity()));
+
+        // 3. 교체 - 조회하는 동안 삭제(remove)된 게시물은 다시 넣지 않도록 현재 추적 중인 게시물만
+        synchronized (this) {
+            List<PostDto.PostFeedRow> refreshed = new ArrayList<>();
+            for (Long postId : topPostIds) {
+                PostDto.PostFeedRow row = rows.get(postId);
+                if (row != null && entries.containsKey(postId)) {
+                    refreshed.add(row);
+                }
+            }
+            trending = List.copyOf(refreshed);
+        }
+    }
+
+    private void record(Long postId, double weight) {
+        TransactionUtil.runAfterCommit(() -> {
+            synchronized (this) {
+                add(postId, weight, System.currentTimeMillis());
+            }
+        });
+    }
+
+    // 점수 더하기 - 호출하는 쪽에서 동기화
+    private void add(Long postId, double weight, long eventTime) {
+        Entry entry = entries.get(postId);
+        if (entry == null) {
+            if (weight <= 0) {
+                return;  // 추적하지 않는 게시물의 감소는 무시
+            }
+            entry = new Entry(postId);
+            entries.put(postId, entry);
+        }
+
+        entry.score += weight * Math.exp(lambda * (eventTime - landmark));
+
+        // 1. 이미 상위 K개에 있으면 위치만 조정 (최소 힙 - 증가는 아래로, 감소는 위로)
+        if (entry.heapIndex >= 0) {
+            if (weight >= 0) {
+                siftDown(entry.heapIndex);
+            } else {
+                siftUp(entry.heapIndex);
+            }
+            return;
+        }
+
+        // 2. 힙에 자리가 있으면 추가
+        if (heapSize < capacity) {
+            heap[heapSize] = entry;
+            entry.heapIndex = heapSize++;
+            siftUp(entry.heapIndex);
+            return;
+        }
+
+        // 3. 힙 최소값보다 크면 교체
+        if (capacity > 0 && entry.score > heap[0].score) {
+            heap[0].heapIndex = -1;
+            heap[0] = entry;
+            entry.heapIndex = 0;
+            siftDown(0);
+        }
+    }
+
+    // 기준 시각 이동 + 정리 + 힙 재구성 - 호출하는 쪽에서 동기화
+    private void redecay(long now) {
+        double factor = Math.exp(-lambda * (now - landmark));
+        landmark = now;
+
+        entries.values().removeIf(entry -> {
+            entry.score *= factor;
+            entry.heapIndex = -1;
+            return entry.score < MIN_SCORE;
+        });
+
+        // 좋아요 취소 등으로 힙 밖의 게시물이 더 높아졌을 수 있으므로 전체에서 다시 상위 K개
+        Arrays.fill(heap, null);
+        heapSize = 0;
+        entries.values().forEach(entry -> add(entry.postId, 0, now));
+    }
+
+    private void removeFromHeap(int index) {
+        heapSize--;
+        if (index == heapSize) {
+            heap[heapSize] = null;
+            return;
+        }
+        heap[index] = heap[heapSize];
+        heap[index].heapIndex = index;
+        heap[heapSize] = null;
+        siftDown(index);
+        siftUp(index);
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (heap[parent].score <= heap[index].score) {
+                break;
+            }
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        while (true) {
+            int left = index * 2 + 1;
+            int right = left + 1;
+            int smallest = index;
+            if (left < heapSize && heap[left].score < heap[smallest].score) {
+                smallest = left;
+            }
+            if (right < heapSize && heap[right].score < heap[smallest].score) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        Entry tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+        heap[i].heapIndex = i;
+        heap[j].heapIndex = j;
+    }
+
+    /**
+     * 게시물 하나의 점수 + 힙에서의 위치 (-1이면 힙 밖)
+     */
+    private static class Entry {
+        private final long postId;
+        private double score;
+        private int heapIndex = -1;
+
+        Entry(long postId) {
+            this.postId = postId;
+        }
+    }
+}
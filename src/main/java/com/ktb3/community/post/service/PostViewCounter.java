@@ -0,0 +1,115 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.post.repository.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시물 조회수 write-behind 카운터
+ * - 상세 조회 시 post row를 갱신하지 않고 게시물별 LongAdder에 누적 (row lock 경합 제거)
+ * - 스케줄러가 주기적으로 누적분을 UPDATE post SET hit = hit + ? 배치로 반영
+ * - 애플리케이션 종료 시 남은 누적분을 반영
+ * 화면에 보여주는 조회수 = DB에 반영된 조회수 + 아직 반영되지 않은 누적분
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCounter {
+
+    private final PostRepository postRepository;
+    private final PostDetailCache detailCache;
+    private final PostTrendingRanker trendingRanker;
+
+    // postId -> 아직 DB에 반영되지 않은 조회수
+    private final ConcurrentHashMap<Long, LongAdder> pendingHits = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (메모리에만 누적)
+     */
+    public void increase(Long postId) {
+        add(postId, 1L);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long getPendingHit(Long postId) {
+        LongAdder adder = pendingHits.get(postId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    /**
+     * 누적된 조회수를 DB에 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${post.view-count.flush-interval-ms:3000}")
+    public synchronized void flush() {
+
+        // 1. 게시물별 누적분 가져오기 (sumThenReset - 가져오는 중에 들어온 증가분은 다음 주기로 넘어감)
+        Map<Long, Long> hitDeltas = new HashMap<>();
+        pendingHits.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                hitDeltas.put(postId, delta);
+            } else if (pendingHits.remove(postId, adder)) {
+                // 한 주기 동안 조회가 없던 게시물은 맵에서 정리 (정리 직전에 들어온 증가분은 되돌려 놓음)
+                long late = adder.sumThenReset();
+                if (late > 0) {
+                    add(postId, late);
+                }
+            }
+        });
+
+        if (hitDeltas.isEmpty()) {
+            return;
+        }
+
+        // 2. DB 반영 - 실패하면 다음 주기에 다시 시도하도록 누적분 복구
+        try {
+            postRepository.increaseHits(hitDeltas);
+        } catch (RuntimeException e) {
+            log.warn("조회수 반영 실패 - 다음 주기에 재시도합니다. (게시물 {}건)", hitDeltas.size(), e);
+            hitDeltas.forEach(this::add);
+            return;
+        }
+
+        // 3. 캐시된 상세의 조회수도 반영분만큼 올려줌
+        detailCache.addHits(hitDeltas);
+
+        // 4. 인기 게시물 점수 반영
+        trendingRanker.recordHits(hitDeltas);
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 누적분 추가
+     * - adder를 찾은 뒤 더하기 전에 flush가 그 adder를 맵에서 정리했을 수 있음
+     *   → 더한 뒤 아직 맵에 있는지 확인하고, 빠져 있으면 남은 값을 새 adder로 옮김
+     *   (sumThenReset은 값을 한 번만 가져가므로 flush와 동시에 옮겨도 중복/유실 없음)
+     */
+    private void add(Long postId, long delta) {
+        LongAdder adder = pendingHits.computeIfAbsent(postId, id -> new LongAdder());
+        adder.add(delta);
+
+        if (pendingHits.get(postId) != adder) {
+            long moved = adder.sumThenReset();
+            if (moved > 0) {
+                add(postId, moved);
+            }
+        }
+    }
+}
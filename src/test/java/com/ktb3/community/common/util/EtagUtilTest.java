@@ -0,0 +1,50 @@
+package com.ktb3.community.common.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EtagUtilTest {
+
+    @Test
+    @DisplayName("Accept에 따라 선택될 응답 형식 - q값 높은 순, */* 이면 JSON")
+    void negotiatedMediaType() {
+        assertThat(EtagUtil.negotiatedMediaType(null)).isEqualTo("application/json");
+        assertThat(EtagUtil.negotiatedMediaType("*/*")).isEqualTo("application/json");
+        assertThat(EtagUtil.negotiatedMediaType("application/cbor")).isEqualTo("application/cbor");
+        assertThat(EtagUtil.negotiatedMediaType("application/json;q=0.5, application/x-jackson-smile"))
+                .isEqualTo("application/x-jackson-smile");
+    }
+
+    @Test
+    @DisplayName("같은 버전이라도 응답 형식이 다르면 304가 아니고, 응답에 Vary: Accept 추가")
+    void etagDiffersByMediaType() {
+        // given - JSON 응답의 ETag
+        String etag = EtagUtil.strongEtag("post", 1L);
+        ServletWebRequest jsonRequest = request("application/json", null);
+        EtagUtil.checkNotModified(jsonRequest, etag);
+        String jsonEtag = ((MockHttpServletResponse) jsonRequest.getResponse()).getHeader("ETag");
+
+        // when - 같은 ETag로 CBOR 요청 / JSON 요청
+        ServletWebRequest cborRequest = request("application/cbor", jsonEtag);
+        ServletWebRequest sameJsonRequest = request("application/json", jsonEtag);
+
+        // then
+        assertThat(EtagUtil.checkNotModified(cborRequest, etag)).isFalse();
+        assertThat(EtagUtil.checkNotModified(sameJsonRequest, etag)).isTrue();
+        assertThat(((MockHttpServletResponse) cborRequest.getResponse()).getHeaders("Vary")).contains("Accept");
+    }
+
+    private ServletWebRequest request(String accept, String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts/1");
+        request.addHeader("Accept", accept);
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,57 @@
+package com.ktb3.community.common.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ktb3.community.post.dto.PostDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.MappingJacksonValue;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FieldSelectionTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setFilterProvider(FieldSelection.defaultFilterProvider());
+
+    private final PostDto.PostListPageResponse page = PostDto.PostListPageResponse.builder()
+            .posts(List.of(PostDto.PostListResponse.builder()
+                    .postId(1L)
+                    .title("제목")
+                    .likeCount(3)
+                    .authorNickname("작성자")
+                    .build()))
+            .nextCursor("next")
+            .hasNext(true)
+            .build();
+
+    @Test
+    @DisplayName("선택한 필드만 직렬화 - 감싸는 페이지 속성은 유지")
+    void serializeSelectedFieldsOnly() throws Exception {
+        // given
+        MappingJacksonValue value = FieldSelection.parse("postId, title,likeCount").apply(page);
+
+        // when
+        String json = objectMapper.writer(value.getFilters()).writeValueAsString(value.getValue());
+
+        // then
+        assertThat(json).contains("\"postId\":1", "\"title\":\"제목\"", "\"likeCount\":3", "\"nextCursor\":\"next\"");
+        assertThat(json).doesNotContain("authorNickname", "hit");
+    }
+
+    @Test
+    @DisplayName("fields가 없으면 전체 직렬화")
+    void serializeAllWithoutSelection() throws Exception {
+        // given
+        FieldSelection selection = FieldSelection.parse(" ");
+
+        // when
+        String json = objectMapper.writeValueAsString(selection.apply(page).getValue());
+
+        // then
+        assertThat(selection.isAll()).isTrue();
+        assertThat(selection.includes("content")).isTrue();
+        assertThat(json).contains("\"authorNickname\":\"작성자\"", "\"hit\":0");
+    }
+}
@@ -0,0 +1,101 @@
+package com.ktb3.community.common.util;
+
+import com.ktb3.community.common.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>("test", meterRegistry);
+
+    @Test
+    @DisplayName("같은 key 동시 요청은 한 번만 로딩하고 결과를 공유")
+    void coalesceConcurrentLoads() throws Exception {
+        // given
+        int requests = 10;
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+
+        // when
+        try (ExecutorService executor = Executors.newFixedThreadPool(requests)) {
+            for (int i = 0; i < requests; i++) {
+                results.add(executor.submit(() -> singleFlight.execute(1L, () -> {
+                    loadCount.incrementAndGet();
+                    await(release);
+                    return "post-1";
+                })));
+            }
+
+            // 모든 요청이 leader를 기다리는 상태가 된 뒤 로딩 완료
+            while (meterRegistry.counter("singleflight.calls", "name", "test", "role", "follower").count() < requests - 1) {
+                Thread.sleep(10);
+            }
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("post-1");
+            }
+        }
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("로딩 실패 시 예외를 전달하고, 다음 요청은 다시 로딩")
+    void retryAfterFailure() {
+        // when & then
+        assertThatThrownBy(() -> singleFlight.execute(1L, () -> {
+            throw new IllegalArgumentException("존재하지 않는 게시물입니다.");
+        })).isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(singleFlight.execute(1L, () -> "post-1")).isEqualTo("post-1");
+    }
+
+    @Test
+    @DisplayName("leader 로딩이 끝나지 않으면 follower는 deadline까지만 기다림")
+    void followerWaitsUntilDeadline() throws Exception {
+        // given - leader 로딩이 멈춘 상태
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+                await(release);
+                return "post-1";
+            }));
+            while (meterRegistry.counter("singleflight.calls", "name", "test", "role", "leader").count() < 1) {
+                Thread.sleep(10);
+            }
+
+            // when & then
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(50);
+            assertThatThrownBy(() -> singleFlight.execute(1L, () -> "post-1", deadline))
+                    .isInstanceOf(BusinessException.class);
+
+            release.countDown();
+            assertThat(leader.get()).isEqualTo("post-1");
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
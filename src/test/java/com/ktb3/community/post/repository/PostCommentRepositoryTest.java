@@ -0,0 +1,108 @@
+package com.ktb3.community.post.repository;
+
+import com.ktb3.community.config.QuerydslConfig;
+import com.ktb3.community.member.entity.Member;
+import com.ktb3.community.post.dto.PostCommentDto;
+import com.ktb3.community.post.entity.Post;
+import com.ktb3.community.post.entity.PostComment;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 댓글 path 범위 조회/삭제 - 실제 MySQL 정렬(기본 collation utf8mb4_0900_ai_ci) 기준으로 확인
+ * (Docker가 없으면 건너뜀)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QuerydslConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+public class PostCommentRepositoryTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @Autowired
+    private PostCommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Member member;
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        member = Member.builder().email("tester@test.com").nickname("tester").build();
+        em.persist(member);
+        post = Post.builder().member(member).title("스레드 테스트").build();
+        em.persist(post);
+    }
+
+    @Test
+    @DisplayName("페이지의 루트 범위 조회에 가장 최근 루트의 답글까지 포함")
+    void findThreadRowsIncludesRepliesOfNewestRoot() {
+        // given - 루트 2개, 각각 답글 (두 번째 루트의 답글은 한 단계 더)
+        PostComment oldRoot = save(null);
+        PostComment oldReply = save(oldRoot);
+        PostComment newRoot = save(null);
+        PostComment newReply = save(newRoot);
+        PostComment newNested = save(newReply);
+        em.clear();
+
+        // when
+        List<PostCommentDto.ThreadRow> rows = commentRepository.findThreadRows(
+                post.getId(),
+                PostComment.pathSegment(oldRoot.getId()),
+                PostComment.subtreeUpperBound(PostComment.pathSegment(newRoot.getId())),
+                3);
+
+        // then - path 순 (부모 다음에 자식)
+        assertThat(rows).extracting(PostCommentDto.ThreadRow::commentId).containsExactly(
+                oldRoot.getId(), oldReply.getId(), newRoot.getId(), newReply.getId(), newNested.getId());
+    }
+
+    @Test
+    @DisplayName("댓글 삭제 시 하위 답글까지 삭제하고, 다른 루트의 스레드는 그대로")
+    void deleteSubtreeRemovesAllReplies() {
+        // given
+        PostComment root = save(null);
+        PostComment reply = save(root);
+        save(reply);
+        PostComment otherRoot = save(null);
+
+        // when
+        int deleted = commentRepository.deleteSubtree(post.getId(), root.getPath(),
+                PostComment.subtreeUpperBound(root.getPath()));
+
+        // then
+        assertThat(deleted).isEqualTo(3);
+        assertThat(commentRepository.findAll()).extracting(PostComment::getId)
+                .containsExactly(otherRoot.getId());
+    }
+
+    private PostComment save(PostComment parent) {
+        PostComment comment = commentRepository.save(PostComment.builder()
+                .member(member)
+                .post(post)
+                .comment("댓글")
+                .build());
+        comment.placeUnder(parent);
+        em.flush();
+        return comment;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.common.util.CursorUtil;
+import com.ktb3.community.post.dto.PostDto;
+import com.ktb3.community.post.dto.PostLikeDto;
+import com.ktb3.community.post.repository.PostLikeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MyActivityServiceTest {
+
+    @Mock
+    private PostLikeRepository likeRepository;
+
+    @Mock
+    private PostService postService;
+
+    @InjectMocks
+    private MyActivityService myActivityService;
+
+    @Test
+    @DisplayName("좋아요한 게시물 중 삭제된 게시물은 빠지고, 다음 커서는 마지막 좋아요 기준")
+    void likesCursorFollowsLikeRows() {
+        // given - 좋아요 3개(size 2 + 1), 그중 20번 게시물은 삭제됨
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        when(likeRepository.findLikedPosts(1L, Limit.of(3))).thenReturn(List.of(
+                new PostLikeDto.LikedPostRow(30L, now),
+                new PostLikeDto.LikedPostRow(20L, now.minusMinutes(1)),
+                new PostLikeDto.LikedPostRow(10L, now.minusMinutes(2))));
+        when(postService.getPostListByIds(List.of(30L, 20L))).thenReturn(List.of(
+                PostDto.PostListResponse.builder().postId(30L).build()));
+
+        // when
+        PostDto.PostListPageResponse page = myActivityService.getMyLikes(1L, null, 2);
+
+        // then
+        assertThat(page.getPosts()).extracting(PostDto.PostListResponse::getPostId).containsExactly(30L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(CursorUtil.encode(now.minusMinutes(1), 20L));
+    }
+}
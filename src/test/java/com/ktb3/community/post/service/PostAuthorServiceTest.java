@@ -0,0 +1,76 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.post.entity.PostChangeLog;
+import com.ktb3.community.post.repository.PostChangeLogRepository;
+import com.ktb3.community.post.repository.PostSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PostAuthorServiceTest {
+
+    @Mock
+    private PostSummaryRepository summaryRepository;
+
+    @Mock
+    private PostChangeLogRepository changeLogRepository;
+
+    @Mock
+    private PostDetailCache detailCache;
+
+    @Mock
+    private PostFeedCache feedCache;
+
+    @Captor
+    private ArgumentCaptor<List<PostChangeLog>> changeLogs;
+
+    @InjectMocks
+    private PostAuthorService postAuthorService;
+
+    @Test
+    @DisplayName("닉네임 변경 시 요약 행 갱신 + 작성자의 게시물마다 변경 기록 + 상세/목록 캐시 제거")
+    void nicknameChangeReachesEveryReadModel() {
+        // given
+        when(summaryRepository.findPostIdsByAuthorId(1L)).thenReturn(List.of(10L, 20L));
+
+        // when
+        postAuthorService.updateNickname(1L, "새닉네임");
+
+        // then
+        verify(summaryRepository).updateAuthorNickname(eq(1L), eq("새닉네임"), any());
+        verify(changeLogRepository).saveAll(changeLogs.capture());
+        assertThat(changeLogs.getValue()).extracting(PostChangeLog::getPostId).containsExactly(10L, 20L);
+        verify(detailCache).evictAll(List.of(10L, 20L));
+        verify(feedCache).evictPagesContainingAny(List.of(10L, 20L));
+    }
+
+    @Test
+    @DisplayName("작성한 게시물이 없으면 요약 행만 갱신")
+    void noPostsNoPropagation() {
+        // given
+        when(summaryRepository.findPostIdsByAuthorId(1L)).thenReturn(List.of());
+
+        // when
+        postAuthorService.updateProfileKey(1L, null);
+
+        // then
+        verify(summaryRepository).updateAuthorProfileKey(eq(1L), eq(null), any());
+        verify(changeLogRepository, never()).saveAll(anyIterable());
+    }
+}
@@ -0,0 +1,103 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.config.QuerydslConfig;
+import com.ktb3.community.file.service.FileService;
+import com.ktb3.community.post.dto.PostDto;
+import com.ktb3.community.post.entity.PostChangeLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경 동기화 - 변경 번호 순서와 커밋 순서가 다른 경우 (실제 MySQL AUTO_INCREMENT 기준, Docker가 없으면 건너뜀)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QuerydslConfig.class, PostChangeService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+public class PostChangeServiceTest {
+
+    @Container
+    @ServiceConnection
+    static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @MockitoBean
+    private PostViewCounter viewCounter;
+
+    @MockitoBean
+    private FileService fileService;
+
+    @Autowired
+    private PostChangeService changeService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("먼저 번호를 받은 트랜잭션이 나중에 커밋되어도 그 변경을 건너뛰지 않음")
+    void lateCommitIsNotSkipped() throws Exception {
+        // given - 첫 동기화 토큰
+        String token = changeService.getChanges(null, 100).getNextToken();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            // 트랜잭션 A - 변경 번호를 먼저 받고 커밋은 대기 (좋아요)
+            Future<?> slow = executor.submit(() -> tx.executeWithoutResult(status -> {
+                changeService.record(1L, PostChangeLog.ChangeType.UPDATED);
+                inserted.countDown();
+                awaitLatch(commit);
+            }));
+            assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // 트랜잭션 B - 다음 번호를 받고 먼저 커밋 (댓글)
+            tx.executeWithoutResult(status -> changeService.record(2L, PostChangeLog.ChangeType.UPDATED));
+
+            // when - A 커밋 전 폴링
+            PostDto.PostChangesResponse beforeCommit = changeService.getChanges(token, 100);
+
+            // then - B만 먼저 받지 않고 토큰도 그대로
+            assertThat(beforeCommit.getChanges()).isEmpty();
+            assertThat(beforeCommit.getNextToken()).isEqualTo(token);
+
+            // when - A 커밋 후 폴링
+            commit.countDown();
+            slow.get(10, TimeUnit.SECONDS);
+            PostDto.PostChangesResponse afterCommit = changeService.getChanges(beforeCommit.getNextToken(), 100);
+
+            // then - 두 변경 모두
+            assertThat(afterCommit.getChanges()).extracting(PostDto.PostChangeResponse::getPostId)
+                    .containsExactly(1L, 2L);
+        }
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.file.service.FileService;
+import com.ktb3.community.post.dto.PostCommentDto;
+import com.ktb3.community.post.entity.PostComment;
+import com.ktb3.community.post.repository.PostCommentRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PostCommentThreadServiceTest {
+
+    private final PostCommentRepository commentRepository = mock(PostCommentRepository.class);
+    private final FileService fileService = mock(FileService.class);
+    private final PostCommentThreadService threadService = new PostCommentThreadService(commentRepository, fileService, 3);
+
+    @Test
+    @DisplayName("페이지의 루트들을 path 범위 한 번으로 조회하고, 루트는 최신순 / 답글은 트리로 응답")
+    void loadThreadsInOneRangeScan() {
+        // given - 루트 3개 중 2개(7, 5) + 다음 페이지 확인용 1개(2)
+        when(commentRepository.findRootCommentIds(1L, null, 3)).thenReturn(List.of(7L, 5L, 2L));
+
+        String from = PostComment.pathSegment(5L);
+        String to = PostComment.subtreeUpperBound(PostComment.pathSegment(7L));
+        when(commentRepository.findThreadRows(1L, from, to, 3)).thenReturn(List.of(
+                row(5L, null, 0, PostComment.pathSegment(5L)),
+                row(6L, 5L, 1, PostComment.pathSegment(5L) + PostComment.pathSegment(6L)),
+                row(8L, 6L, 2, PostComment.pathSegment(5L) + PostComment.pathSegment(6L) + PostComment.pathSegment(8L)),
+                row(7L, null, 0, PostComment.pathSegment(7L))));
+        when(fileService.getProfileImageUrls(anyList())).thenReturn(Map.of());
+
+        // when
+        PostCommentDto.CommentThreadPageResponse page = threadService.getThreads(1L, null, null, 2);
+
+        // then
+        assertThat(page.getComments()).extracting(PostCommentDto.CommentThreadResponse::getCommentId)
+                .containsExactly(7L, 5L);
+        PostCommentDto.CommentThreadResponse reply = page.getComments().get(1).getReplies().get(0);
+        assertThat(reply.getCommentId()).isEqualTo(6L);
+        assertThat(reply.getReplies()).extracting(PostCommentDto.CommentThreadResponse::getCommentId)
+                .containsExactly(8L);
+        assertThat(page.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("path는 고정 길이라 문자열 순서가 트리 순서와 같음")
+    void pathOrderMatchesTreeOrder() {
+        String root = PostComment.pathSegment(9L);
+        String reply = root + PostComment.pathSegment(100L);
+        String nextRoot = PostComment.pathSegment(10L);
+
+        assertThat(root).hasSize(PostComment.PATH_SEGMENT_LENGTH);
+        assertThat(root.compareTo(reply)).isNegative();
+        assertThat(reply.compareTo(PostComment.subtreeUpperBound(root))).isNegative();
+        assertThat(PostComment.subtreeUpperBound(root)).isEqualTo(nextRoot);
+        assertThat(PostComment.subtreeUpperBound(reply)).isEqualTo(root + PostComment.pathSegment(101L));
+    }
+
+    private PostCommentDto.ThreadRow row(Long commentId, Long parentId, int depth, String path) {
+        return new PostCommentDto.ThreadRow(commentId, parentId, depth, path, "댓글 " + commentId,
+                10L, "작성자", LocalDateTime.of(2025, 1, 1, 12, 0));
+    }
+}
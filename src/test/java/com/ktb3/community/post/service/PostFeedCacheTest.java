@@ -0,0 +1,97 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.post.dto.PostDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PostFeedCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    // refresh-seconds = 0 → 캐시된 페이지는 항상 갱신 대상
+    private final PostFeedCache feedCache = new PostFeedCache(100, 0, 600, executor, meterRegistry);
+
+    private final PostFeedCache.Key firstPage = PostFeedCache.Key.of(PostDto.SortType.LATEST, null, 20);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("오래된 페이지는 그대로 응답하고 백그라운드에서 갱신")
+    void serveStaleWhileRefreshing() throws Exception {
+        // given
+        AtomicInteger version = new AtomicInteger();
+        feedCache.get(firstPage, () -> page("v" + version.incrementAndGet(), 1L));
+
+        // when - 두 번째 요청은 기존 페이지를 받고 갱신은 뒤에서
+        PostFeedCache.Page served = feedCache.get(firstPage, () -> page("v" + version.incrementAndGet(), 1L));
+        drain();
+
+        // then
+        assertThat(served.etag()).isEqualTo("v1");
+        assertThat(feedCache.get(firstPage, () -> page("unused", 1L)).etag()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("갱신이 실패하면 기존 페이지를 계속 응답")
+    void keepStaleWhenRefreshFails() throws Exception {
+        // given
+        feedCache.get(firstPage, () -> page("v1", 1L));
+
+        // when - DB 장애
+        feedCache.get(firstPage, () -> {
+            throw new IllegalStateException("DB 연결 실패");
+        });
+        drain();
+
+        // then
+        assertThat(feedCache.get(firstPage, () -> page("v2", 1L)).etag()).isEqualTo("v1");
+        assertThat(meterRegistry.get("post.feed.cache.refresh").tag("result", "failure").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("게시물 삭제 시 첫 페이지와 해당 게시물이 들어 있는 페이지만 제거")
+    void evictPagesContainingDeletedPost() {
+        // given
+        PostFeedCache.Key secondPage = PostFeedCache.Key.of(PostDto.SortType.LATEST, "cursor-2", 20);
+        PostFeedCache.Key thirdPage = PostFeedCache.Key.of(PostDto.SortType.LATEST, "cursor-3", 20);
+        feedCache.get(firstPage, () -> page("first", 10L));
+        feedCache.get(secondPage, () -> page("second", 5L));
+        feedCache.get(thirdPage, () -> page("third", 1L));
+
+        // when
+        feedCache.evictPagesContaining(5L);
+
+        // then - 다시 로딩되는 페이지만 새 ETag
+        assertThat(feedCache.get(firstPage, () -> page("reloaded", 10L)).etag()).isEqualTo("reloaded");
+        assertThat(feedCache.get(secondPage, () -> page("reloaded", 5L)).etag()).isEqualTo("reloaded");
+        assertThat(feedCache.get(thirdPage, () -> page("reloaded", 1L)).etag()).isEqualTo("third");
+    }
+
+    // 앞서 제출된 백그라운드 갱신이 끝날 때까지 대기
+    private void drain() throws Exception {
+        executor.submit(() -> {}).get(1, TimeUnit.SECONDS);
+    }
+
+    private PostFeedCache.Page page(String etag, Long postId) {
+        PostDto.PostListPageResponse response = PostDto.PostListPageResponse.builder()
+                .posts(List.of(PostDto.PostListResponse.builder().postId(postId).build()))
+                .hasNext(false)
+                .build();
+        return PostFeedCache.Page.of(response, etag);
+    }
+}
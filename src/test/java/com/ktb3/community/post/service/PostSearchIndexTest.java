@@ -0,0 +1,101 @@
+package com.ktb3.community.post.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class PostSearchIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ExecutorService executor;
+
+    @InjectMocks
+    private PostSearchIndex searchIndex;
+
+    @Test
+    @DisplayName("조사가 붙은 단어도 bigram으로 검색되고, 관련도 높은 게시물이 먼저 나옴")
+    void searchByBigram() {
+        // given
+        searchIndex.index(1L, "오늘 점심 메뉴", "회사 근처 식당을 찾아봤습니다");
+        searchIndex.index(2L, "식당 추천", "판교 식당을 추천합니다. 식당이 조용해요");
+        searchIndex.index(3L, "운동 기록", "오늘은 달리기를 했습니다");
+
+        // when
+        List<PostSearchIndex.Hit> hits = searchIndex.search("식당", null, null, 10);
+
+        // then
+        assertThat(hits).extracting(PostSearchIndex.Hit::postId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제된 게시물은 이전 내용으로 검색되지 않음")
+    void updateAndRemove() {
+        // given
+        searchIndex.index(1L, "식당 추천", "판교 식당");
+        searchIndex.index(2L, "카페 추천", "판교 카페");
+        searchIndex.index(3L, "오늘 일기", "비가 왔다");
+
+        // when
+        searchIndex.index(1L, "운동 기록", "달리기");
+        searchIndex.remove(2L);
+
+        // then
+        assertThat(searchIndex.search("식당", null, null, 10)).isEmpty();
+        assertThat(searchIndex.search("카페", null, null, 10)).isEmpty();
+        assertThat(searchIndex.search("달리기", null, null, 10))
+                .extracting(PostSearchIndex.Hit::postId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("커서 이후 결과만 이어서 조회")
+    void searchWithCursor() {
+        // given
+        searchIndex.index(1L, "판교 맛집", "");
+        searchIndex.index(2L, "판교 맛집", "");
+        searchIndex.index(3L, "판교 맛집", "");
+
+        // when
+        List<PostSearchIndex.Hit> first = searchIndex.search("맛집", null, null, 2);
+        PostSearchIndex.Hit last = first.get(first.size() - 1);
+        List<PostSearchIndex.Hit> next = searchIndex.search("맛집", last.score(), last.postId(), 2);
+
+        // then
+        assertThat(first).extracting(PostSearchIndex.Hit::postId).containsExactly(3L, 2L);
+        assertThat(next).extracting(PostSearchIndex.Hit::postId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("수정으로 생긴 삭제 표시도 세고, 살아있는 문서보다 많아지면 재생성은 백그라운드로 한 번만")
+    void compactInBackgroundAfterReindex() {
+        // given - 게시물 1개를 두 번 수정 (삭제 표시 2개, 살아있는 문서 1개)
+        searchIndex.index(1L, "식당 추천", "판교 식당");
+        searchIndex.index(1L, "식당 추천", "판교 식당 수정");
+        verify(executor, never()).execute(any());
+
+        // when
+        searchIndex.index(1L, "식당 추천", "판교 식당 다시 수정");
+        searchIndex.index(1L, "식당 추천", "판교 식당 또 수정");
+
+        // then - 요청 스레드에서 재생성하지 않고 (executor mock이라 실행되지 않음) 진행 중에는 다시 시작하지 않음
+        verify(executor, times(1)).execute(any());
+        assertThat(searchIndex.search("식당", null, null, 10))
+                .extracting(PostSearchIndex.Hit::postId).containsExactly(1L);
+    }
+}
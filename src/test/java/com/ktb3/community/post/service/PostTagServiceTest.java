@@ -0,0 +1,83 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.common.exception.BusinessException;
+import com.ktb3.community.post.entity.PostTag;
+import com.ktb3.community.post.entity.Tag;
+import com.ktb3.community.post.repository.PostTagRepository;
+import com.ktb3.community.post.repository.TagRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PostTagServiceTest {
+
+    @Mock
+    private TagRepository tagRepository;
+
+    @Mock
+    private PostTagRepository postTagRepository;
+
+    @InjectMocks
+    private PostTagService tagService;
+
+    @Test
+    @DisplayName("태그 수정 시 빠진 태그만 삭제하고 새 태그만 추가 (게시물 수도 바뀐 태그만 증감)")
+    void replaceOnlyChangedTags() {
+        // given - 기존 태그: spring, java
+        when(postTagRepository.findTagsByPostId(1L)).thenReturn(List.of(tag(10L, "spring"), tag(20L, "java")));
+        when(tagRepository.findByNameIn(List.of("jpa"))).thenReturn(List.of(tag(30L, "jpa")));
+
+        // when - 정규화 후 spring, jpa
+        List<String> tags = tagService.replaceTags(1L, List.of("#Spring", " JPA ", "spring"));
+
+        // then
+        assertThat(tags).containsExactly("jpa", "spring");
+        verify(postTagRepository).deleteByPostIdAndTagIds(1L, List.of(20L));
+        verify(tagRepository).addPostCount(List.of(20L), -1);
+        verify(tagRepository).insertIfAbsent(eq("jpa"), any());
+        verify(tagRepository).addPostCount(List.of(30L), 1);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<PostTag>> saved = ArgumentCaptor.forClass(List.class);
+        verify(postTagRepository).saveAll(saved.capture());
+        assertThat(saved.getValue()).extracting(postTag -> postTag.getId().getTagId()).containsExactly(30L);
+    }
+
+    @Test
+    @DisplayName("태그가 10개를 넘으면 예외")
+    void rejectTooManyTags() {
+        // given
+        List<String> names = IntStream.rangeClosed(1, 11).mapToObj(i -> "tag" + i).toList();
+
+        // when & then
+        assertThatThrownBy(() -> tagService.replaceTags(1L, names))
+                .isInstanceOf(BusinessException.class);
+        verify(postTagRepository, never()).saveAll(anyList());
+    }
+
+    private Tag tag(Long id, String name) {
+        Tag tag = BeanUtils.instantiateClass(Tag.class);
+        ReflectionTestUtils.setField(tag, "id", id);
+        ReflectionTestUtils.setField(tag, "name", name);
+        return tag;
+    }
+}
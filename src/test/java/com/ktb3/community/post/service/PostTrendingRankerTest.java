@@ -0,0 +1,45 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.post.dto.PostDto;
+import com.ktb3.community.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class PostTrendingRankerTest {
+
+    private final PostRepository postRepository = mock(PostRepository.class);
+    private final PostTrendingRanker ranker = new PostTrendingRanker(
+            postRepository, mock(JdbcTemplate.class), 10, 12, 3, 2, 0.1, 7);
+
+    @Test
+    @DisplayName("갱신 중 목록 정보를 조회하는 사이 삭제된 게시물은 다시 들어오지 않음")
+    void removedDuringRefreshStaysRemoved() {
+        // given - 인기 게시물 2개, 목록 정보 조회 도중 1번 게시물 삭제 (커밋 후 반영)
+        ranker.recordHits(Map.of(1L, 100L, 2L, 50L));
+        when(postRepository.findPostFeedByIds(anyCollection())).thenAnswer(invocation -> {
+            ranker.remove(1L);
+            return List.of(row(1L), row(2L));
+        });
+
+        // when
+        ranker.refresh();
+
+        // then
+        assertThat(ranker.getTrending(10)).extracting(PostDto.PostFeedRow::postId).containsExactly(2L);
+    }
+
+    private PostDto.PostFeedRow row(Long postId) {
+        return new PostDto.PostFeedRow(postId, "게시물 " + postId, 0L, 0L, 0L,
+                LocalDateTime.of(2025, 1, 1, 12, 0), 10L, "작성자", null);
+    }
+}
@@ -0,0 +1,137 @@
+package com.ktb3.community.post.service;
+
+import com.ktb3.community.post.repository.PostRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class PostViewCounterTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostDetailCache detailCache;
+
+    @Mock
+    private PostTrendingRanker trendingRanker;
+
+    @InjectMocks
+    private PostViewCounter viewCounter;
+
+    @Test
+    @DisplayName("누적된 조회수를 게시물별로 한번에 반영")
+    void flushAccumulatedHits() {
+        // given
+        viewCounter.increase(1L);
+        viewCounter.increase(1L);
+        viewCounter.increase(2L);
+
+        // when
+        viewCounter.flush();
+
+        // then
+        verify(postRepository).increaseHits(Map.of(1L, 2L, 2L, 1L));
+        verify(detailCache).addHits(Map.of(1L, 2L, 2L, 1L));
+        assertThat(viewCounter.getPendingHit(1L)).isZero();
+        assertThat(viewCounter.getPendingHit(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 누적분 유지")
+    void keepPendingHitsWhenFlushFails() {
+        // given
+        viewCounter.increase(1L);
+        doThrow(new RuntimeException("DB 장애")).when(postRepository).increaseHits(anyMap());
+
+        // when
+        viewCounter.flush();
+
+        // then
+        assertThat(viewCounter.getPendingHit(1L)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("누적분이 없으면 DB 호출 안함")
+    void skipFlushWhenEmpty() {
+        // when
+        viewCounter.flush();
+
+        // then
+        verify(postRepository, never()).increaseHits(anyMap());
+    }
+
+    @Test
+    @DisplayName("조회가 없던 게시물은 정리되고, 그 뒤 조회도 빠짐없이 반영")
+    void countHitsAfterIdleRemoval() {
+        // given - 반영 후 한 주기 동안 조회 없음 → 정리
+        viewCounter.increase(1L);
+        viewCounter.flush();
+        viewCounter.flush();
+
+        // when
+        viewCounter.increase(1L);
+        viewCounter.flush();
+
+        // then
+        verify(postRepository, times(2)).increaseHits(Map.of(1L, 1L));
+    }
+
+    @Test
+    @DisplayName("반영/정리와 동시에 조회해도 조회수 유실 없음")
+    void noLostHitsWhileFlushing() throws Exception {
+        // given - 반영된 조회수 합계
+        LongAdder flushed = new LongAdder();
+        doAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(0);
+            deltas.values().forEach(flushed::add);
+            return null;
+        }).when(postRepository).increaseHits(anyMap());
+
+        int threads = 8;
+        int hitsPerThread = 20_000;
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        // when - 여러 게시물에 드문드문 조회 (정리 대상이 자주 생기도록) + 계속 반영
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads + 1)) {
+            executor.submit(() -> {
+                while (running.get()) {
+                    viewCounter.flush();
+                    Thread.sleep(1);
+                }
+                return null;
+            });
+            for (int t = 0; t < threads; t++) {
+                executor.submit(() -> {
+                    for (int i = 0; i < hitsPerThread; i++) {
+                        viewCounter.increase(ThreadLocalRandom.current().nextLong(1, 500));
+                    }
+                    done.countDown();
+                });
+            }
+            done.await();
+            running.set(false);
+        }
+        viewCounter.flush();
+
+        // then
+        assertThat(flushed.sum()).isEqualTo((long) threads * hitsPerThread);
+    }
+}